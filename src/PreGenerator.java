@@ -0,0 +1,165 @@
+import config.ConfigManager;
+import config.GameConfig;
+import model.save.WorldManager;
+import model.world.CaveSampling;
+import model.world.ChunkStore;
+import model.world.GeneratedChunk;
+import model.world.NoiseType;
+import model.world.World;
+import model.world.WorldData;
+import org.joml.Vector3f;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Headless entry point that generates terrain of a world ahead of play.
+ * Builds every column within the radius around spawn on all cores, using the same
+ * terrain code as the game, and writes the chunks to the world's save directory.
+ * The game then reads them back instead of generating. Needs no window or GL context.
+ *
+ * Usage: {@code java -cp <classpath> PreGenerator <world name> <seed> <radius> [PERLIN|SIMPLEX]}
+ */
+public class PreGenerator {
+    /** Spawn position, same as a new game */
+    private static final Vector3f SPAWN = new Vector3f(0, 50, 0);
+
+    /** Milliseconds between progress lines */
+    private static final long PROGRESS_INTERVAL = 1000;
+
+    /** Progress shared by the workers */
+    private static final AtomicLong columnsDone = new AtomicLong();
+    private static final AtomicLong chunksDone = new AtomicLong();
+
+
+    /**
+     * Generates chunks of the given world and exits.
+     *
+     * @param args World name, seed, radius in chunks and optional noise type
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3 || args.length > 4) {
+            System.err.println("Usage: PreGenerator <world name> <seed> <radius> [PERLIN|SIMPLEX]");
+            System.exit(1);
+        }
+        String worldName = args[0];
+        long seed = Long.parseLong(args[1]);
+        int radius = Integer.parseInt(args[2]);
+        NoiseType noise = args.length > 3 ? NoiseType.parse(args[3]) : NoiseType.PERLIN;
+        if (radius < 0) {
+            System.err.println("Radius must not be negative: " + radius);
+            System.exit(1);
+        }
+
+        ConfigManager.loadConfig();
+        WorldManager.initialize();
+
+        // Existing worlds keep their seed, noise and cave sampling, new ones are registered like from the menu
+        CaveSampling caveSampling = CaveSampling.parse(GameConfig.CAVE_SAMPLING);
+        WorldData existing = WorldManager.getWorlds().stream()
+            .filter(world -> world.name().equals(worldName))
+            .findFirst()
+            .orElse(null);
+        if (existing == null) {
+            WorldManager.saveWorldMetadata(new WorldData(worldName, seed, noise, caveSampling));
+        } else if (existing.seed() != seed) {
+            System.err.println("World " + worldName + " exists with seed " + existing.seed());
+            System.exit(1);
+        } else {
+            noise = existing.noise();
+            caveSampling = existing.caveSampling();
+        }
+
+        // Only the spawn column is built on start, the workers drive generation themselves
+        GameConfig.RENDER_DISTANCE = 0;
+        GameConfig.VERTICAL_RENDER_DISTANCE = 0;
+        GameConfig.SPAWN_RADIUS = 0;
+        World world = new World(new Vector3f(SPAWN), seed, noise, caveSampling, null);
+        ChunkStore store = new ChunkStore(
+            WorldManager.getChunkDirectory(worldName), world.getNoiseType(), world.getCaveSampling());
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        long columns = (2L * radius + 1) * (2L * radius + 1);
+        System.out.printf("Generating %s (%s, %s caves, seed %d): %d columns on %d threads%n",
+            worldName, noise, caveSampling, seed, columns, threads);
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        int regionMin = -radius >> ChunkStore.REGION_SHIFT;
+        int regionMax = radius >> ChunkStore.REGION_SHIFT;
+        for (int regionX = regionMin; regionX <= regionMax; regionX++) {
+            for (int regionZ = regionMin; regionZ <= regionMax; regionZ++) {
+                int x = regionX;
+                int z = regionZ;
+                futures.add(executor.submit(() -> {
+                    generateRegion(world, store, x, z, radius);
+                    return null;
+                }));
+            }
+        }
+        executor.shutdown();
+
+        while (!executor.awaitTermination(PROGRESS_INTERVAL, TimeUnit.MILLISECONDS)) {
+            printProgress(columns, start);
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Done: %d chunks in %d columns in %.1f s, %.1f chunks/s%n",
+            chunksDone.get(), columnsDone.get(), seconds, chunksDone.get() / seconds);
+
+        world.cleanup();
+        System.exit(0);
+    }
+
+    /**
+     * Builds all columns of a region within the radius and writes them in one file
+     */
+    private static void generateRegion(World world, ChunkStore store, int regionX, int regionZ, int radius)
+            throws Exception {
+        Map<Vector3f, byte[]> sections = new HashMap<>();
+        int size = 1 << ChunkStore.REGION_SHIFT;
+        int firstX = Math.max(regionX * size, -radius);
+        int lastX = Math.min(regionX * size + size - 1, radius);
+        int firstZ = Math.max(regionZ * size, -radius);
+        int lastZ = Math.min(regionZ * size + size - 1, radius);
+        for (int x = firstX; x <= lastX; x++) {
+            for (int z = firstZ; z <= lastZ; z++) {
+                // Sections are built upwards until the first one above the terrain
+                for (int y = 0; ; y++) {
+                    Vector3f position = new Vector3f(x, y, z);
+                    GeneratedChunk generated = world.buildChunk(position);
+                    if (generated.isEmpty()) {
+                        break;
+                    }
+                    sections.put(position, generated.chunk().exportVoxels());
+                    generated.chunk().release();
+                    chunksDone.incrementAndGet();
+                }
+                world.releaseColumn(x, z);
+                columnsDone.incrementAndGet();
+            }
+        }
+        store.writeRegion(regionX, regionZ, sections);
+    }
+
+    /**
+     * Prints columns done and average throughput so far
+     */
+    private static void printProgress(long columns, long start) {
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%5.1f%%  %d/%d columns, %d chunks, %.1f chunks/s%n",
+            100.0 * columnsDone.get() / columns, columnsDone.get(), columns,
+            chunksDone.get(), chunksDone.get() / seconds);
+    }
+}
@@ -0,0 +1,46 @@
+package benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs a benchmark configuration in a fresh JVM.
+ * Settings read once when world classes load need a new process per configuration.
+ */
+public final class BenchmarkFork {
+
+    private BenchmarkFork() {}
+
+    /**
+     * Starts main class in a child JVM with the same classpath and JVM options,
+     * echoing its output.
+     *
+     * @param mainClass Class whose main method runs in the child
+     * @param args Arguments for the child
+     * @return true if the child exited normally
+     */
+    public static boolean run(Class<?> mainClass, String... args) throws IOException, InterruptedException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(mainClass.getName());
+        command.addAll(List.of(args));
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                System.out.println(line);
+            }
+        }
+        return process.waitFor() == 0;
+    }
+}
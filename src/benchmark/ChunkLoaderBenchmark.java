@@ -0,0 +1,190 @@
+package benchmark;
+
+import config.GameConfig;
+import model.world.CaveSampling;
+import model.world.ChunkLoader;
+import model.world.ChunkStore;
+import model.world.GeneratedChunk;
+import model.world.NoiseType;
+import model.world.World;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import util.PerformanceMetrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compares chunk loader execution modes by queue-to-integration latency and throughput.
+ * Streams the whole load area in from an empty spawn, then flies the player in a straight
+ * line. Each mode runs once generating terrain and once reading it from a pre-generated
+ * chunk store, where tasks block on region file reads. Each run has its own JVM so JIT
+ * and thread state do not carry over.
+ *
+ * Usage: {@code java -cp <classpath> benchmark.ChunkLoaderBenchmark [mode...]}
+ */
+public class ChunkLoaderBenchmark {
+    /** Benchmark parameters */
+    private static final int HORIZONTAL_DISTANCE = 4;
+    private static final int VERTICAL_DISTANCE = 2;
+    private static final int FRAME_MILLIS = 16;
+    private static final int MAX_STREAM_FRAMES = 2000;
+    private static final int FLIGHT_FRAMES = 300;
+    private static final float FLIGHT_SPEED = 2.0f;  // Blocks per frame
+    private static final long SEED = 1234L;
+    private static final Vector3f SPAWN = new Vector3f(0, 50, 0);
+
+    /** Marks a child process run for a single mode */
+    private static final String RUN_FLAG = "--run";
+
+    /** Where chunks come from in a run */
+    private enum Source { GENERATED, STORED }
+
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 3 && args[0].equals(RUN_FLAG)) {
+            runSingle(ChunkLoader.ExecutionMode.parse(args[1]), Source.valueOf(args[2]));
+            return;
+        }
+
+        String[] modes = args.length > 0 ? args : new String[] {"POOLED", "VIRTUAL"};
+        System.out.printf("%8s %9s %7s %7s %9s %11s %10s %10s %10s%n",
+            "mode", "source", "phase", "chunks", "time ms", "chunks/s", "avg lat ms", "max lat ms", "max frame");
+        for (Source source : Source.values()) {
+            for (String mode : modes) {
+                if (!BenchmarkFork.run(ChunkLoaderBenchmark.class, RUN_FLAG, mode, source.name())) {
+                    System.err.println("Run for mode " + mode + " from " + source + " failed");
+                }
+            }
+        }
+    }
+
+    /**
+     * Streams spawn area then flies with one loader mode
+     */
+    private static void runSingle(ChunkLoader.ExecutionMode mode, Source source)
+            throws InterruptedException, IOException {
+        GameConfig.CHUNK_LOADER_MODE = mode.name();
+        GameConfig.RENDER_DISTANCE = HORIZONTAL_DISTANCE;
+        GameConfig.VERTICAL_RENDER_DISTANCE = VERTICAL_DISTANCE;
+        GameConfig.SPAWN_RADIUS = 0;  // Only the player's column is built up front
+
+        File storeDirectory = null;
+        ChunkStore store = null;
+        if (source == Source.STORED) {
+            storeDirectory = Files.createTempDirectory("chunk-store").toFile();
+            store = fillStore(storeDirectory);
+        }
+
+        Matrix4f projectionView = new Matrix4f()
+            .perspective((float) Math.toRadians(60.0f), 16f / 9f, 0.3f, 100.0f)
+            .lookAt(SPAWN.x, SPAWN.y, SPAWN.z, SPAWN.x + 1, SPAWN.y, SPAWN.z, 0, 1, 0);
+        World world = new World(new Vector3f(SPAWN), SEED, NoiseType.PERLIN,
+            CaveSampling.parse(GameConfig.CAVE_SAMPLING), store);
+
+        // Stream until the whole load area is in
+        Phase stream = new Phase();
+        Vector3f position = new Vector3f(SPAWN);
+        for (int frame = 0; frame < MAX_STREAM_FRAMES && !world.isLoadAreaComplete(); frame++) {
+            stream.frame(world, position, projectionView);
+        }
+        stream.print(mode, source, "stream");
+
+        // Fly along X, the loader has to keep up with the entering shell
+        Phase flight = new Phase();
+        for (int frame = 0; frame < FLIGHT_FRAMES; frame++) {
+            position.x += FLIGHT_SPEED;
+            projectionView.translate(-FLIGHT_SPEED, 0, 0);
+            flight.frame(world, position, projectionView);
+        }
+        flight.print(mode, source, "flight");
+
+        world.cleanup();
+        if (storeDirectory != null) {
+            deleteStore(storeDirectory);
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Writes every section the run loads to the store, before anything is timed
+     */
+    private static ChunkStore fillStore(File directory) throws IOException {
+        World generator = new World(new Vector3f(SPAWN), SEED, NoiseType.PERLIN);
+        ChunkStore store = new ChunkStore(directory, generator.getNoiseType(), generator.getCaveSampling());
+        int centerY = (int) SPAWN.y >> World.CHUNK_SHIFT;
+        int lastX = ((int) (SPAWN.x + FLIGHT_FRAMES * FLIGHT_SPEED) >> World.CHUNK_SHIFT) + HORIZONTAL_DISTANCE;
+
+        Map<Vector3f, Map<Vector3f, byte[]>> regions = new HashMap<>();
+        for (int x = -HORIZONTAL_DISTANCE; x <= lastX; x++) {
+            for (int z = -HORIZONTAL_DISTANCE; z <= HORIZONTAL_DISTANCE; z++) {
+                for (int y = centerY - VERTICAL_DISTANCE; y <= centerY + VERTICAL_DISTANCE; y++) {
+                    Vector3f position = new Vector3f(x, y, z);
+                    GeneratedChunk generated = generator.buildChunk(position);
+                    if (generated.isEmpty()) {
+                        continue;
+                    }
+                    Vector3f region = new Vector3f(x >> ChunkStore.REGION_SHIFT, 0, z >> ChunkStore.REGION_SHIFT);
+                    regions.computeIfAbsent(region, key -> new HashMap<>())
+                        .put(position, generated.chunk().exportVoxels());
+                    generated.chunk().release();
+                }
+                generator.releaseColumn(x, z);
+            }
+        }
+        for (Map.Entry<Vector3f, Map<Vector3f, byte[]>> region : regions.entrySet()) {
+            store.writeRegion((int) region.getKey().x(), (int) region.getKey().z(), region.getValue());
+        }
+        generator.cleanup();
+        return store;
+    }
+
+    /**
+     * Deletes region files and their directory
+     */
+    private static void deleteStore(File directory) {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    /**
+     * Collects loader metrics over a run of frames
+     */
+    private static class Phase {
+        private final long start = System.nanoTime();
+        private long maxFrame;
+
+        Phase() {
+            PerformanceMetrics.resetChunkLoadLatency();
+        }
+
+        /** Runs one world update and waits out the rest of the frame */
+        void frame(World world, Vector3f position, Matrix4f projectionView) throws InterruptedException {
+            long frameStart = System.nanoTime();
+            world.update(new Vector3f(position), projectionView);
+            long elapsed = System.nanoTime() - frameStart;
+            maxFrame = Math.max(maxFrame, elapsed);
+            Thread.sleep(Math.max(0, FRAME_MILLIS - elapsed / 1_000_000));
+        }
+
+        /** Prints one result row */
+        void print(ChunkLoader.ExecutionMode mode, Source source, String name) {
+            double seconds = (System.nanoTime() - start) / 1e9;
+            long loads = PerformanceMetrics.getChunkLoads();
+
+            System.out.printf("%8s %9s %7s %7d %9.1f %11.1f %10.2f %10.2f %10.2f%n",
+                mode, source, name, loads, seconds * 1000, loads / seconds,
+                PerformanceMetrics.getAverageChunkLoadLatency() / 1e6,
+                PerformanceMetrics.getMaxChunkLoadLatency() / 1e6,
+                maxFrame / 1e6);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package benchmark;
+
+import config.GameConfig;
+import model.block.PlacedBlock;
+import model.world.World;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+/**
+ * Compares frame time and memory of the world across chunk sizes.
+ * Chunk size is fixed when the world classes load, so each size runs in its own JVM.
+ *
+ * Usage: {@code java -cp <classpath> benchmark.ChunkSizeBenchmark [size...]}
+ */
+public class ChunkSizeBenchmark {
+    /** Benchmark parameters */
+    private static final int[] DEFAULT_SIZES = {8, 16, 32};
+    private static final int VIEW_DISTANCE_BLOCKS = 48;
+    private static final int WARMUP_FRAMES = 50;
+    private static final int MEASURED_FRAMES = 200;
+    private static final int MAX_STREAM_FRAMES = 5000;
+    private static final long SEED = 1234L;
+    private static final Vector3f SPAWN = new Vector3f(0, 50, 0);
+
+    /** Marks a child process run for a single size */
+    private static final String RUN_FLAG = "--run";
+
+    /** Consumes frame results so the JIT cannot drop the work */
+    private static volatile long sink;
+
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2 && args[0].equals(RUN_FLAG)) {
+            runSingle(Integer.parseInt(args[1]));
+            return;
+        }
+
+        int[] sizes = args.length > 0 ? parseSizes(args) : DEFAULT_SIZES;
+        System.out.printf("%6s %7s %10s %9s %9s %9s %10s %10s%n",
+            "size", "chunks", "voxels", "gen ms", "heap MB", "B/voxel", "frame ms", "max ms");
+        for (int size : sizes) {
+            if (!BenchmarkFork.run(ChunkSizeBenchmark.class, RUN_FLAG, String.valueOf(size))) {
+                System.err.println("Run for chunk size " + size + " failed");
+            }
+        }
+    }
+
+    /**
+     * Generates the whole load area with given chunk size then measures frames
+     */
+    private static void runSingle(int size) throws InterruptedException {
+        if (!GameConfig.isValidChunkSize(size)) {
+            throw new IllegalArgumentException("Invalid chunk size: " + size);
+        }
+        GameConfig.CHUNK_SIZE = size;
+        GameConfig.RENDER_DISTANCE = (VIEW_DISTANCE_BLOCKS + size - 1) / size;
+        GameConfig.VERTICAL_RENDER_DISTANCE = GameConfig.RENDER_DISTANCE;
+        GameConfig.LOAD_SHAPE = "CUBE";
+        GameConfig.SPAWN_RADIUS = GameConfig.RENDER_DISTANCE;
+
+        long heapBefore = usedHeap();
+        long genStart = System.nanoTime();
+        World world = new World(new Vector3f(SPAWN), SEED);
+        // Corners of the cube lie outside the spawn rings and still stream in
+        Matrix4f projectionView = viewMatrix(0);
+        for (int frame = 0; frame < MAX_STREAM_FRAMES && !world.isLoadAreaComplete(); frame++) {
+            world.update(new Vector3f(SPAWN), projectionView);
+            Thread.sleep(1);
+        }
+        long genNanos = System.nanoTime() - genStart;
+        if (!world.isLoadAreaComplete()) {
+            System.err.println("Load area incomplete after " + MAX_STREAM_FRAMES + " frames");
+        }
+        long heapAfter = usedHeap();
+
+        int chunkCount = world.getLoadedChunkCount();
+        long voxels = (long) chunkCount * size * size * size;
+
+        for (int frame = 0; frame < WARMUP_FRAMES; frame++) {
+            sink += runFrame(world, frame);
+        }
+
+        long total = 0;
+        long max = 0;
+        for (int frame = 0; frame < MEASURED_FRAMES; frame++) {
+            long start = System.nanoTime();
+            sink += runFrame(world, frame);
+            long elapsed = System.nanoTime() - start;
+            total += elapsed;
+            max = Math.max(max, elapsed);
+        }
+
+        long heapBytes = heapAfter - heapBefore;
+        System.out.printf("%6d %7d %10d %9.1f %9.1f %9.2f %10.3f %10.3f%n",
+            size, chunkCount, voxels,
+            genNanos / 1e6,
+            heapBytes / (1024.0 * 1024.0),
+            (double) heapBytes / voxels,
+            total / 1e6 / MEASURED_FRAMES,
+            max / 1e6);
+
+        world.cleanup();
+        System.exit(0);
+    }
+
+    /**
+     * Runs the CPU side of one frame: world update, visible block query and mesh data
+     */
+    private static long runFrame(World world, int frame) {
+        world.update(new Vector3f(SPAWN), viewMatrix(frame));
+
+        long vertexCount = 0;
+        for (PlacedBlock block : world.getVisibleBlocks()) {
+            vertexCount += block.getVertices().length;
+        }
+        return vertexCount;
+    }
+
+    /**
+     * Builds the camera for a frame, turning so frustum culling sees changing chunk sets
+     */
+    private static Matrix4f viewMatrix(int frame) {
+        float yaw = (float) java.lang.Math.toRadians(frame * 3.0);
+        return new Matrix4f()
+            .perspective((float) java.lang.Math.toRadians(60.0f), 16f / 9f, 0.3f, 100.0f)
+            .lookAt(SPAWN.x, SPAWN.y, SPAWN.z,
+                SPAWN.x + (float) java.lang.Math.sin(yaw), SPAWN.y - 0.5f, SPAWN.z - (float) java.lang.Math.cos(yaw),
+                0, 1, 0);
+    }
+
+    /**
+     * Gets heap in use after requesting collection
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Parses chunk sizes from arguments
+     */
+    private static int[] parseSizes(String[] args) {
+        int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+        return sizes;
+    }
+}
@@ -0,0 +1,277 @@
+package benchmark;
+
+import config.GameConfig;
+import model.block.BlockType;
+import model.world.CaveSampling;
+import model.world.Chunk;
+import model.world.GeneratedChunk;
+import model.world.World;
+import org.joml.Vector3f;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures terrain generation throughput without a GL context.
+ * Builds patches of chunks for fixed seeds on one thread and on all cores,
+ * then integrates a patch into the world to cover block face computation.
+ * Fresh patches are used for every pass so column heightmaps are never reused.
+ * Every seed runs with exact and coarse cave sampling, which are then compared
+ * by speed and by the share of blocks that come out different.
+ *
+ * Usage: {@code java -cp <classpath> benchmark.GenerationBenchmark [seed...]}
+ */
+public class GenerationBenchmark {
+    /** Benchmark parameters */
+    private static final long[] DEFAULT_SEEDS = {1234L, 42L, 987654321L};
+    private static final int PATCH_COLUMNS = 12;     // Patch edge length in columns
+    private static final int TERRAIN_DEPTH = 64;     // Blocks from bedrock covered by each patch
+    private static final int WARMUP_PASSES = 2;
+    private static final int MEASURED_PASSES = 3;
+    private static final Vector3f SPAWN = new Vector3f(0, 50, 0);
+
+    /** Patches start far from spawn and never overlap */
+    private static final int PATCH_ORIGIN = 1000;
+    private static final int COMPARISON_PATCH = 100;
+
+    /** Consumes generated chunks so the JIT cannot drop the work */
+    private static volatile long sink;
+
+    /** Allocation counter of the current thread */
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+
+    public static void main(String[] args) throws Exception {
+        long[] seeds = args.length > 0 ? parseSeeds(args) : DEFAULT_SEEDS;
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        // Only the spawn column is built, the benchmark drives generation itself
+        GameConfig.RENDER_DISTANCE = 0;
+        GameConfig.VERTICAL_RENDER_DISTANCE = 0;
+        GameConfig.SPAWN_RADIUS = 0;
+
+        System.out.printf("%11s %7s %8s %8s %7s %9s %10s %9s %11s%n",
+            "seed", "caves", "phase", "threads", "chunks", "time ms", "chunks/s", "ns/voxel", "KB/chunk");
+        List<String> comparisons = new ArrayList<>();
+        for (long seed : seeds) {
+            World exact = createWorld(seed, CaveSampling.EXACT);
+            Result[] exactResults = measure(exact, seed, CaveSampling.EXACT, cores);
+            World coarse = createWorld(seed, CaveSampling.COARSE);
+            Result[] coarseResults = measure(coarse, seed, CaveSampling.COARSE, cores);
+
+            StringBuilder line = new StringBuilder(String.format("%11d coarse speedup:", seed));
+            for (int i = 0; i < exactResults.length; i++) {
+                line.append(String.format(" %s %.2fx", exactResults[i].label,
+                    coarseResults[i].chunksPerSecond() / exactResults[i].chunksPerSecond()));
+            }
+            line.append(String.format(", %.3f%% of blocks differ", 100.0 * compareTerrain(exact, coarse)));
+            comparisons.add(line.toString());
+
+            exact.cleanup();
+            coarse.cleanup();
+        }
+        System.out.println();
+        comparisons.forEach(System.out::println);
+        System.exit(0);
+    }
+
+    /**
+     * Creates world with given cave sampling, read when the world starts
+     */
+    private static World createWorld(long seed, CaveSampling sampling) {
+        GameConfig.CAVE_SAMPLING = sampling.name();
+        return new World(new Vector3f(SPAWN), seed);
+    }
+
+    /**
+     * Runs build passes on one thread and all cores, then terrain passes
+     *
+     * @return Accumulated result of each printed row
+     */
+    private static Result[] measure(World world, long seed, CaveSampling sampling, int cores) throws Exception {
+        List<Result> rows = new ArrayList<>();
+        String caves = sampling.name().toLowerCase();
+        int patch = 0;
+
+        for (int pass = 0; pass < WARMUP_PASSES; pass++) {
+            build(world, patchPositions(patch++), cores);
+        }
+        for (int threads : cores > 1 ? new int[] {1, cores} : new int[] {1}) {
+            Result total = new Result("build/" + threads);
+            for (int pass = 0; pass < MEASURED_PASSES; pass++) {
+                total.add(build(world, patchPositions(patch++), threads));
+            }
+            total.print(seed, caves, "build", threads);
+            rows.add(total);
+        }
+
+        // Integration registers chunks and computes faces, it only runs on the game thread
+        integrate(world, patchPositions(patch++));
+        Result total = new Result("terrain");
+        for (int pass = 0; pass < MEASURED_PASSES; pass++) {
+            total.add(integrate(world, patchPositions(patch++)));
+        }
+        total.print(seed, caves, "terrain", 1);
+        rows.add(total);
+        return rows.toArray(new Result[0]);
+    }
+
+    /**
+     * Builds the same patch in both worlds and counts blocks of different type
+     *
+     * @return Fraction of differing blocks
+     */
+    private static double compareTerrain(World first, World second) {
+        long blocks = 0;
+        long differing = 0;
+        for (Vector3f position : patchPositions(COMPARISON_PATCH)) {
+            Chunk a = first.buildChunk(position).chunk();
+            Chunk b = second.buildChunk(position).chunk();
+            int baseX = (int) position.x() << World.CHUNK_SHIFT;
+            int baseY = (int) position.y() << World.CHUNK_SHIFT;
+            int baseZ = (int) position.z() << World.CHUNK_SHIFT;
+            for (int y = baseY; y < baseY + World.CHUNK_SIZE; y++) {
+                for (int z = baseZ; z < baseZ + World.CHUNK_SIZE; z++) {
+                    for (int x = baseX; x < baseX + World.CHUNK_SIZE; x++) {
+                        BlockType typeA = a != null ? a.getBlockType(x, y, z) : null;
+                        BlockType typeB = b != null ? b.getBlockType(x, y, z) : null;
+                        blocks++;
+                        if (typeA != typeB) {
+                            differing++;
+                        }
+                    }
+                }
+            }
+            if (a != null) a.release();
+            if (b != null) b.release();
+        }
+        return (double) differing / blocks;
+    }
+
+    /**
+     * Builds chunks detached from the world on a fixed number of threads
+     */
+    private static Result build(World world, List<Vector3f> positions, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        LongAdder allocated = new LongAdder();
+        LongAdder generated = new LongAdder();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                int first = t;
+                futures.add(executor.submit(() -> {
+                    long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+                    for (int i = first; i < positions.size(); i += threads) {
+                        GeneratedChunk chunk = world.buildChunk(positions.get(i));
+                        if (!chunk.isEmpty()) {
+                            sink += chunk.chunk().getBlockCount();
+                            chunk.chunk().release();
+                            generated.increment();
+                        }
+                    }
+                    allocated.add(THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore);
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return new Result(positions.size(), generated.sum(), System.nanoTime() - start, allocated.sum());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Generates chunks into the world, including block faces
+     */
+    private static Result integrate(World world, List<Vector3f> positions) {
+        int loadedBefore = world.getLoadedChunkCount();
+        long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (Vector3f position : positions) {
+            world.generateChunkTerrain(position);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new Result(positions.size(), world.getLoadedChunkCount() - loadedBefore, elapsed, allocated);
+    }
+
+    /**
+     * Lists chunk positions of a square patch of columns covering the terrain depth
+     */
+    private static List<Vector3f> patchPositions(int patch) {
+        int originX = PATCH_ORIGIN + patch * PATCH_COLUMNS * 2;
+        int sections = Math.max(1, TERRAIN_DEPTH >> World.CHUNK_SHIFT);
+        List<Vector3f> positions = new ArrayList<>();
+        for (int x = 0; x < PATCH_COLUMNS; x++) {
+            for (int z = 0; z < PATCH_COLUMNS; z++) {
+                for (int y = 0; y < sections; y++) {
+                    positions.add(new Vector3f(originX + x, y, PATCH_ORIGIN + z));
+                }
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Parses seeds from arguments
+     */
+    private static long[] parseSeeds(String[] args) {
+        long[] seeds = new long[args.length];
+        for (int i = 0; i < args.length; i++) {
+            seeds[i] = Long.parseLong(args[i]);
+        }
+        return seeds;
+    }
+
+    /**
+     * Accumulated measurements of one or more passes.
+     * Chunks counts requested sections, generated only those with blocks.
+     */
+    private static final class Result {
+        private final String label;
+        private long chunks;
+        private long generated;
+        private long nanos;
+        private long allocatedBytes;
+
+        Result(String label) {
+            this.label = label;
+        }
+
+        Result(long chunks, long generated, long nanos, long allocatedBytes) {
+            this.label = null;
+            this.chunks = chunks;
+            this.generated = generated;
+            this.nanos = nanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        void add(Result other) {
+            chunks += other.chunks;
+            generated += other.generated;
+            nanos += other.nanos;
+            allocatedBytes += other.allocatedBytes;
+        }
+
+        double chunksPerSecond() {
+            return chunks / (nanos / 1e9);
+        }
+
+        void print(long seed, String caves, String phase, int threads) {
+            System.out.printf("%11d %7s %8s %8d %7d %9.1f %10.1f %9.2f %11.1f%n",
+                seed, caves, phase, threads, chunks,
+                nanos / 1e6,
+                chunksPerSecond(),
+                (double) nanos / Math.max(1, generated * Chunk.VOLUME),
+                allocatedBytes / 1024.0 / Math.max(1, chunks));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package benchmark;
+
+import config.GameConfig;
+import model.block.PlacedBlock;
+import model.world.OffHeapBlockStorage;
+import model.world.World;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Compares heap use and garbage collection of the heap and off-heap voxel storage.
+ * The player walks in a straight line so chunks keep loading and unloading.
+ * Each backend runs in its own JVM with the parent's JVM options.
+ *
+ * Usage: {@code java [--enable-preview] -cp <classpath> benchmark.StorageBenchmark}
+ */
+public class StorageBenchmark {
+    /** Benchmark parameters */
+    private static final int FRAMES = 600;
+    private static final float BLOCKS_PER_FRAME = 0.5f;
+    private static final long SEED = 1234L;
+
+    /** Marks a child process run for a single backend */
+    private static final String RUN_FLAG = "--run";
+
+    /** Consumes frame results so the JIT cannot drop the work */
+    private static volatile long sink;
+
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2 && args[0].equals(RUN_FLAG)) {
+            runSingle(Boolean.parseBoolean(args[1]));
+            return;
+        }
+
+        System.out.printf("%9s %9s %10s %9s %8s %9s %10s %10s%n",
+            "storage", "chunks", "heap MB", "native MB", "GC runs", "GC ms", "frame ms", "max ms");
+        for (boolean offHeap : new boolean[] {false, true}) {
+            if (!BenchmarkFork.run(StorageBenchmark.class, RUN_FLAG, String.valueOf(offHeap))) {
+                System.err.println("Run for " + (offHeap ? "off-heap" : "heap") + " storage failed");
+            }
+        }
+    }
+
+    /**
+     * Walks the player through the world with the given backend and reports memory and GC
+     */
+    private static void runSingle(boolean offHeap) {
+        GameConfig.OFF_HEAP_STORAGE = offHeap;
+
+        Vector3f position = new Vector3f(0, 50, 0);
+        World world = new World(new Vector3f(position), SEED);
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTime();
+
+        long total = 0;
+        long max = 0;
+        for (int frame = 0; frame < FRAMES; frame++) {
+            position.x += BLOCKS_PER_FRAME;
+            long start = System.nanoTime();
+            sink += runFrame(world, position);
+            long elapsed = System.nanoTime() - start;
+            total += elapsed;
+            max = Math.max(max, elapsed);
+        }
+
+        long gcRuns = gcCount() - gcCountBefore;
+        long gcMillis = gcTime() - gcTimeBefore;
+        int chunkCount = world.getLoadedChunkCount();
+        long nativeBytes = OffHeapBlockStorage.getReservedNativeBytes();
+
+        System.out.printf("%9s %9d %10.1f %9.1f %8d %9d %10.3f %10.3f%n",
+            offHeap ? "off-heap" : "heap",
+            chunkCount,
+            usedHeap() / (1024.0 * 1024.0),
+            nativeBytes / (1024.0 * 1024.0),
+            gcRuns,
+            gcMillis,
+            total / 1e6 / FRAMES,
+            max / 1e6);
+
+        world.cleanup();
+        System.exit(0);
+    }
+
+    /**
+     * Runs the CPU side of one frame looking along the walking direction
+     */
+    private static long runFrame(World world, Vector3f position) {
+        Matrix4f projectionView = new Matrix4f()
+            .perspective((float) java.lang.Math.toRadians(60.0f), 16f / 9f, 0.3f, 100.0f)
+            .lookAt(position.x, position.y, position.z,
+                position.x + 1, position.y - 0.5f, position.z,
+                0, 1, 0);
+
+        world.update(new Vector3f(position), projectionView);
+
+        long vertexCount = 0;
+        for (PlacedBlock block : world.getVisibleBlocks()) {
+            vertexCount += block.getVertices().length;
+        }
+        return vertexCount;
+    }
+
+    /** Gets total collections across collectors */
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    /** Gets total collection time across collectors in milliseconds */
+    private static long gcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return time;
+    }
+
+    /**
+     * Gets heap in use after requesting collection
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -21,6 +21,20 @@ public class ConfigManager {
     public static void saveConfig() {
         Properties props = new Properties();
         props.setProperty("RENDER_DISTANCE", String.valueOf(GameConfig.RENDER_DISTANCE));
+        props.setProperty("VERTICAL_RENDER_DISTANCE", String.valueOf(GameConfig.VERTICAL_RENDER_DISTANCE));
+        props.setProperty("LOAD_SHAPE", GameConfig.LOAD_SHAPE);
+        props.setProperty("SPAWN_RADIUS", String.valueOf(GameConfig.SPAWN_RADIUS));
+        props.setProperty("CHUNK_SIZE", String.valueOf(GameConfig.CHUNK_SIZE));
+        props.setProperty("OFF_HEAP_STORAGE", String.valueOf(GameConfig.OFF_HEAP_STORAGE));
+        props.setProperty("UNLOAD_MARGIN", String.valueOf(GameConfig.UNLOAD_MARGIN));
+        props.setProperty("CHUNK_CACHE_MB", String.valueOf(GameConfig.CHUNK_CACHE_MB));
+        props.setProperty("CHUNK_CACHE_COMPRESSED", String.valueOf(GameConfig.CHUNK_CACHE_COMPRESSED));
+        props.setProperty("HEIGHTMAP_CACHE_REGIONS", String.valueOf(GameConfig.HEIGHTMAP_CACHE_REGIONS));
+        props.setProperty("CHUNK_INTEGRATION_BUDGET_MS", String.valueOf(GameConfig.CHUNK_INTEGRATION_BUDGET_MS));
+        props.setProperty("MAX_PENDING_CHUNK_LOADS", String.valueOf(GameConfig.MAX_PENDING_CHUNK_LOADS));
+        props.setProperty("CHUNK_LOADER_MODE", GameConfig.CHUNK_LOADER_MODE);
+        props.setProperty("VIRTUAL_LOADER_CONCURRENCY", String.valueOf(GameConfig.VIRTUAL_LOADER_CONCURRENCY));
+        props.setProperty("CAVE_SAMPLING", GameConfig.CAVE_SAMPLING);
         props.setProperty("EYE_HEIGHT", String.valueOf(GameConfig.EYE_HEIGHT));
         props.setProperty("CAMERA_MOVE_SPEED", String.valueOf(GameConfig.CAMERA_MOVE_SPEED));
         props.setProperty("CAMERA_MOUSE_SENSITIVITY", String.valueOf(GameConfig.CAMERA_MOUSE_SENSITIVITY));
@@ -55,6 +69,13 @@ public class ConfigManager {
 
             // Set game configuration values from the loaded properties
             GameConfig.RENDER_DISTANCE = Integer.parseInt(props.getProperty("RENDER_DISTANCE"));
+            GameConfig.VERTICAL_RENDER_DISTANCE = Integer.parseInt(
+                props.getProperty("VERTICAL_RENDER_DISTANCE", String.valueOf(GameConfig.VERTICAL_RENDER_DISTANCE))
+            );
+            GameConfig.LOAD_SHAPE = props.getProperty("LOAD_SHAPE", GameConfig.LOAD_SHAPE);
+            GameConfig.SPAWN_RADIUS = Integer.parseInt(
+                props.getProperty("SPAWN_RADIUS", String.valueOf(GameConfig.SPAWN_RADIUS))
+            );
             GameConfig.EYE_HEIGHT = Float.parseFloat(props.getProperty("EYE_HEIGHT"));
             GameConfig.CAMERA_MOVE_SPEED = Float.parseFloat(props.getProperty("CAMERA_MOVE_SPEED"));
             GameConfig.CAMERA_MOUSE_SENSITIVITY = Float.parseFloat(props.getProperty("CAMERA_MOUSE_SENSITIVITY"));
@@ -64,6 +85,40 @@ public class ConfigManager {
             GameConfig.TERMINAL_VELOCITY = Float.parseFloat(props.getProperty("TERMINAL_VELOCITY"));
             GameConfig.RAY_MAX_DISTANCE = Float.parseFloat(props.getProperty("RAY_MAX_DISTANCE"));
             GameConfig.STEP = Float.parseFloat(props.getProperty("STEP"));
+            GameConfig.OFF_HEAP_STORAGE = Boolean.parseBoolean(
+                props.getProperty("OFF_HEAP_STORAGE", String.valueOf(GameConfig.OFF_HEAP_STORAGE))
+            );
+            GameConfig.UNLOAD_MARGIN = Integer.parseInt(
+                props.getProperty("UNLOAD_MARGIN", String.valueOf(GameConfig.UNLOAD_MARGIN))
+            );
+            GameConfig.CHUNK_CACHE_MB = Integer.parseInt(
+                props.getProperty("CHUNK_CACHE_MB", String.valueOf(GameConfig.CHUNK_CACHE_MB))
+            );
+            GameConfig.CHUNK_CACHE_COMPRESSED = Boolean.parseBoolean(
+                props.getProperty("CHUNK_CACHE_COMPRESSED", String.valueOf(GameConfig.CHUNK_CACHE_COMPRESSED))
+            );
+            GameConfig.HEIGHTMAP_CACHE_REGIONS = Integer.parseInt(
+                props.getProperty("HEIGHTMAP_CACHE_REGIONS", String.valueOf(GameConfig.HEIGHTMAP_CACHE_REGIONS))
+            );
+            GameConfig.CHUNK_INTEGRATION_BUDGET_MS = Float.parseFloat(
+                props.getProperty("CHUNK_INTEGRATION_BUDGET_MS", String.valueOf(GameConfig.CHUNK_INTEGRATION_BUDGET_MS))
+            );
+            GameConfig.MAX_PENDING_CHUNK_LOADS = Integer.parseInt(
+                props.getProperty("MAX_PENDING_CHUNK_LOADS", String.valueOf(GameConfig.MAX_PENDING_CHUNK_LOADS))
+            );
+            GameConfig.CHUNK_LOADER_MODE = props.getProperty("CHUNK_LOADER_MODE", GameConfig.CHUNK_LOADER_MODE);
+            GameConfig.VIRTUAL_LOADER_CONCURRENCY = Integer.parseInt(
+                props.getProperty("VIRTUAL_LOADER_CONCURRENCY", String.valueOf(GameConfig.VIRTUAL_LOADER_CONCURRENCY))
+            );
+            GameConfig.CAVE_SAMPLING = props.getProperty("CAVE_SAMPLING", GameConfig.CAVE_SAMPLING);
+
+            // Keep default chunk size for older files or invalid values
+            int chunkSize = Integer.parseInt(props.getProperty("CHUNK_SIZE", String.valueOf(GameConfig.CHUNK_SIZE)));
+            if (GameConfig.isValidChunkSize(chunkSize)) {
+                GameConfig.CHUNK_SIZE = chunkSize;
+            } else {
+                System.err.println("Invalid CHUNK_SIZE " + chunkSize + ", using " + GameConfig.CHUNK_SIZE);
+            }
         } catch (IOException e) {
             e.printStackTrace();
         }
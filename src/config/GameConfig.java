@@ -7,9 +7,88 @@ package config;
 public class GameConfig {
     /**
      * The maximum distance at which the game renders blocks.
+     * Horizontal radius of the loaded area in chunks.
      */
     public static int RENDER_DISTANCE = 3;
 
+    /**
+     * The vertical radius of the loaded area in chunks, above and below the player.
+     */
+    public static int VERTICAL_RENDER_DISTANCE = 2;
+
+    /**
+     * The shape of the loaded area: CUBE, CYLINDER or SPHERE.
+     */
+    public static String LOAD_SHAPE = "CYLINDER";
+
+    /**
+     * The horizontal radius in chunks generated up front when a world is created, the rest streams in.
+     */
+    public static int SPAWN_RADIUS = 2;
+
+    /**
+     * The edge length of a chunk in blocks.
+     * Must be a power of two between MIN_CHUNK_SIZE and MAX_CHUNK_SIZE, read once at world startup.
+     */
+    public static int CHUNK_SIZE = 16;
+
+    /**
+     * The bounds for the chunk edge length.
+     */
+    public static final int MIN_CHUNK_SIZE = 4;
+    public static final int MAX_CHUNK_SIZE = 32;
+
+    /**
+     * Whether chunk voxel data is stored outside the Java heap, read once at world startup.
+     */
+    public static boolean OFF_HEAP_STORAGE = false;
+
+    /**
+     * Extra chunks beyond the render distance before a chunk is unloaded.
+     * Keeps chunks from flickering in and out when walking along a chunk border.
+     */
+    public static int UNLOAD_MARGIN = 1;
+
+    /**
+     * The memory cap in megabytes for recently unloaded chunks kept for reuse, 0 disables the cache.
+     */
+    public static int CHUNK_CACHE_MB = 32;
+
+    /**
+     * Whether cached chunks are stored compressed, trading CPU for memory.
+     */
+    public static boolean CHUNK_CACHE_COMPRESSED = true;
+
+    /**
+     * The number of 8x8 column regions whose terrain heights are kept after their columns unload, 0 disables the cache.
+     */
+    public static int HEIGHTMAP_CACHE_REGIONS = 64;
+
+    /**
+     * The time in milliseconds the game thread may spend per frame integrating generated chunks.
+     */
+    public static float CHUNK_INTEGRATION_BUDGET_MS = 4.0f;
+
+    /**
+     * The maximum number of chunks queued, generating or awaiting integration at once, read once at world startup.
+     */
+    public static int MAX_PENDING_CHUNK_LOADS = 128;
+
+    /**
+     * How chunk load tasks run: POOLED on platform threads or VIRTUAL on virtual threads, read once at world startup.
+     */
+    public static String CHUNK_LOADER_MODE = "POOLED";
+
+    /**
+     * The number of chunk loads run at once in VIRTUAL mode, above the core count so disk reads overlap, read once at world startup.
+     */
+    public static int VIRTUAL_LOADER_CONCURRENCY = 32;
+
+    /**
+     * How cave noise is sampled in new worlds: EXACT at every block or COARSE on a 4-block lattice, existing worlds keep their own.
+     */
+    public static String CAVE_SAMPLING = "EXACT";
+
     /**
      * The height of the player's eyes from the ground.
      */
@@ -66,6 +145,16 @@ public class GameConfig {
     public static float STEP = 0.05f;
 
 
+    /**
+     * Checks if a chunk edge length is a power of two within the supported bounds.
+     *
+     * @param size The edge length to check.
+     * @return true if the size can be used for chunks.
+     */
+    public static boolean isValidChunkSize(int size) {
+        return size >= MIN_CHUNK_SIZE && size <= MAX_CHUNK_SIZE && Integer.bitCount(size) == 1;
+    }
+
     /**
      * Private constructor to prevent instantiation of this utility class.
      */
@@ -1,6 +1,8 @@
 package controller.event;
 
 import model.statistics.DatabaseManager.WorldStats;
+import model.world.CaveSampling;
+import model.world.NoiseType;
 import java.util.List;
 
 /**
@@ -12,7 +14,8 @@ import java.util.List;
  * @see controller.menu.MenuController
  * @see model.statistics.DatabaseManager.WorldStats
  */
-public record MenuEvent(MenuAction action, String worldName, long seed, List<WorldStats> statistics) implements GameEvent {
+public record MenuEvent(MenuAction action, String worldName, long seed, NoiseType noise,
+                        CaveSampling caveSampling, List<WorldStats> statistics) implements GameEvent {
 
     /**
      * Creates a menu action event without additional data.
@@ -22,7 +25,7 @@ public record MenuEvent(MenuAction action, String worldName, long seed, List<Wor
      * @return New MenuEvent with specified action
      */
     public static MenuEvent action(MenuAction action) {
-        return new MenuEvent(action, null, 0, null);
+        return new MenuEvent(action, null, 0, null, null, null);
     }
 
     /**
@@ -31,10 +34,12 @@ public record MenuEvent(MenuAction action, String worldName, long seed, List<Wor
      *
      * @param worldName Name of the world to load or create
      * @param seed World generation seed value
+     * @param noise Noise algorithm the world is generated with
+     * @param caveSampling Cave sampling mode the world is generated with
      * @return New MenuEvent configured for game start
      */
-    public static MenuEvent startGame(String worldName, long seed) {
-        return new MenuEvent(null, worldName, seed, null);
+    public static MenuEvent startGame(String worldName, long seed, NoiseType noise, CaveSampling caveSampling) {
+        return new MenuEvent(null, worldName, seed, noise, caveSampling, null);
     }
 
     /**
@@ -45,7 +50,7 @@ public record MenuEvent(MenuAction action, String worldName, long seed, List<Wor
      * @return New MenuEvent configured for statistics display
      */
     public static MenuEvent showStatistics(List<WorldStats> stats) {
-        return new MenuEvent(MenuAction.SHOW_STATISTICS, null, 0, stats);
+        return new MenuEvent(MenuAction.SHOW_STATISTICS, null, 0, null, null, stats);
     }
 
     /**
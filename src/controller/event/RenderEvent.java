@@ -1,6 +1,6 @@
 package controller.event;
 
-import model.block.AbstractBlock;
+import model.block.PlacedBlock;
 import model.player.Camera;
 import model.world.World;
 import java.util.List;
@@ -8,7 +8,7 @@ import java.util.List;
 /**
  * Contains state needed for rendering a frame.
  */
-public record RenderEvent(Camera camera, List<AbstractBlock> abstractBlocks, World world) implements GameEvent {
+public record RenderEvent(Camera camera, List<PlacedBlock> blocks, World world) implements GameEvent {
 
     /**
      * @return RENDER event type
@@ -7,6 +7,8 @@ import controller.event.RenderEvent;
 import controller.input.InputController;
 import controller.input.PlayerController;
 import model.game.Model;
+import model.world.CaveSampling;
+import model.world.NoiseType;
 import org.lwjgl.glfw.GLFW;
 import util.GameClock;
 import util.PerformanceMetrics;
@@ -40,9 +42,11 @@ public class GameController {
      *
      * @param worldName Name of world to load/create
      * @param seed World generation seed
+     * @param noise Noise algorithm of the world
+     * @param caveSampling Cave sampling mode of the world
      */
-    public GameController(String worldName, long seed) {
-        this.model = new Model(worldName, seed);
+    public GameController(String worldName, long seed, NoiseType noise, CaveSampling caveSampling) {
+        this.model = new Model(worldName, seed, noise, caveSampling);
         this.view = new View();
         view.createDisplay();
 
@@ -91,6 +95,8 @@ public class GameController {
         playerController.update(deltaTime);
         model.update(deltaTime);
 
+        // Blocks for this frame are taken before the world streams in more chunks
+        boolean loadAreaComplete = model.getWorld().isLoadAreaComplete();
         EventBus.getInstance().post(
             new RenderEvent(
                 model.getPlayer().getCamera(),
@@ -99,6 +105,9 @@ public class GameController {
             )
         );
 
+        if (loadAreaComplete) {
+            PerformanceMetrics.logCompleteFrame();
+        }
         PerformanceMetrics.updateFrameMetrics();
     }
 
@@ -1,9 +1,9 @@
 package controller.input;
 
 import controller.event.*;
-import model.block.AbstractBlock;
 import model.block.BlockDirection;
 import model.block.BlockType;
+import model.block.PlacedBlock;
 import model.physics.BoundingBox;
 import model.player.Player;
 import model.player.RayCaster;
@@ -31,8 +31,8 @@ public class PlayerController {
     /** Block breaking state */
     public float breakingProgress = 0.0f;
     public boolean isBreaking = false;
-    private AbstractBlock targetedAbstractBlock;
-    private AbstractBlock lastTargetAbstractBlock;
+    private PlacedBlock targetedBlock;
+    private PlacedBlock lastTargetBlock;
 
     /** Time between block placements in seconds */
     private static final float PLACE_COOLDOWN = 0.2f;
@@ -199,7 +199,7 @@ public class PlayerController {
      */
     private void updateTargetedBlock() {
         // Get new target from raycast
-        AbstractBlock newTarget = RayCaster.getTargetBlock(
+        PlacedBlock newTarget = RayCaster.getTargetBlock(
                 player.getCameraPosition(),
                 player.getYaw(),
                 player.getPitch(),
@@ -208,17 +208,17 @@ public class PlayerController {
         );
 
         // Update highlight state and breaking progress
-        if (targetedAbstractBlock != null) {
-            targetedAbstractBlock.setHighlighted(false);
-            if (newTarget != targetedAbstractBlock) {
-                targetedAbstractBlock.setBreakProgress(0.0f);
+        if (targetedBlock != null) {
+            world.setHighlighted(targetedBlock, false);
+            if (!targetedBlock.isSameBlock(newTarget)) {
+                world.setBreakProgress(targetedBlock, 0.0f);
                 stopBreaking();
             }
         }
 
-        targetedAbstractBlock = newTarget;
+        targetedBlock = newTarget;
         if (newTarget != null) {
-            newTarget.setHighlighted(true);
+            world.setHighlighted(newTarget, true);
         }
     }
 
@@ -226,7 +226,7 @@ public class PlayerController {
      * Starts block breaking if target is valid.
      */
     public void startBreaking() {
-        if (targetedAbstractBlock != null && !targetedAbstractBlock.isUnbreakable()) {
+        if (targetedBlock != null && !targetedBlock.block().isUnbreakable()) {
             isBreaking = true;
         }
     }
@@ -237,8 +237,8 @@ public class PlayerController {
     public void stopBreaking() {
         isBreaking = false;
         breakingProgress = 0.0f;
-        if (targetedAbstractBlock != null) {
-            targetedAbstractBlock.setBreakProgress(0.0f);
+        if (targetedBlock != null) {
+            world.setBreakProgress(targetedBlock, 0.0f);
         }
     }
 
@@ -249,36 +249,43 @@ public class PlayerController {
      */
     public void updateBreaking(float deltaTime) {
         // Check if breaking should continue
-        if (!isBreaking || targetedAbstractBlock == null || targetedAbstractBlock.isUnbreakable()) {
-            if (targetedAbstractBlock != lastTargetAbstractBlock) {
+        if (!isBreaking || targetedBlock == null || targetedBlock.block().isUnbreakable()) {
+            if (!isSameTarget(targetedBlock, lastTargetBlock)) {
                 stopBreaking();
             }
-            lastTargetAbstractBlock = targetedAbstractBlock;
+            lastTargetBlock = targetedBlock;
             return;
         }
 
         // Update progress and visual state
         breakingProgress += deltaTime;
-        float breakTime = targetedAbstractBlock.getBreakTime();
-        targetedAbstractBlock.setBreakProgress(breakingProgress / breakTime);
+        float breakTime = targetedBlock.block().getBreakTime();
+        world.setBreakProgress(targetedBlock, breakingProgress / breakTime);
 
         // Destroy block if breaking complete
         if (breakingProgress >= breakTime) {
-            BlockType type = targetedAbstractBlock.getType();
-            world.destroyBlock(targetedAbstractBlock.getPosition());
+            BlockType type = targetedBlock.getType();
+            world.destroyBlock(targetedBlock.getPosition());
             EventBus.getInstance().post(new BlockEvent(type, false));
             breakingProgress = 0.0f;
             isBreaking = false;
         }
 
-        lastTargetAbstractBlock = targetedAbstractBlock;
+        lastTargetBlock = targetedBlock;
+    }
+
+    /**
+     * Checks if two targets refer to the same block, either may be null.
+     */
+    private static boolean isSameTarget(PlacedBlock a, PlacedBlock b) {
+        return a == null ? b == null : a.isSameBlock(b);
     }
 
     /**
      * Places a block adjacent to targeted block if possible.
      */
     public void placeBlock() {
-        if (targetedAbstractBlock == null) return;
+        if (targetedBlock == null) return;
 
         // Check placement cooldown
         long currentTime = System.currentTimeMillis();
@@ -287,7 +294,7 @@ public class PlayerController {
         }
 
         // Get placement position from raycast
-        Vector3f pos = targetedAbstractBlock.getPosition();
+        Vector3f pos = targetedBlock.getPosition();
         BlockDirection facing = RayCaster.getTargetFace(
                 player.getCameraPosition(),
                 player.getYaw(),
@@ -4,6 +4,8 @@ import controller.event.*;
 import controller.game.GameController;
 import model.save.WorldManager;
 import model.statistics.DatabaseManager;
+import model.world.CaveSampling;
+import model.world.NoiseType;
 import view.menu.MenuView;
 import view.menu.StatisticsDialog;
 
@@ -46,7 +48,7 @@ public class MenuController {
     private void handleMenuAction(GameEvent event) {
         if (event instanceof MenuEvent e) {
             if (e.worldName() != null) {
-                startGame(e.worldName(), e.seed());
+                startGame(e.worldName(), e.seed(), e.noise(), e.caveSampling());
             } else if (e.action() != null) {
                 switch (e.action()) {
                     case SHOW_STATISTICS -> view.showStatistics();
@@ -75,9 +77,11 @@ public class MenuController {
      *
      * @param worldName World to load/create
      * @param seed World generation seed
+     * @param noise Noise algorithm of the world
+     * @param caveSampling Cave sampling mode of the world
      */
-    public void startGame(String worldName, long seed) {
+    public void startGame(String worldName, long seed, NoiseType noise, CaveSampling caveSampling) {
         view.dispose();
-        new GameController(worldName, seed);
+        new GameController(worldName, seed, noise, caveSampling);
     }
 }
\ No newline at end of file
@@ -1,65 +1,31 @@
 package model.block;
 
-import model.physics.BoundingBox;
 import model.world.World;
-import org.joml.Vector3f;
 
-import java.util.Arrays;
 import java.util.List;
 
 /**
  * Base class for all block types in the voxel world.
- * Handles block state, visibility, and face culling.
+ * Instances are shared, immutable block types obtained from {@link BlockFactory};
+ * per-position state such as visible faces, break progress and highlight is kept
+ * by the chunk or world and passed in as coordinates.
  *
  * @see TerrainBlock
  * @see BlockFactory
+ * @see PlacedBlock
  * @see World
  */
 public abstract class AbstractBlock {
-    /** Block position in world space */
-    protected final Vector3f position;
-
-    /** Collision boundaries */
-    protected final BoundingBox boundingBox;
-
-    /** Per-face visibility flags */
-    protected final boolean[] visibleFaces;
-
-    /** Block visibility state */
-    protected boolean isVisible;
-
-    /** Selection highlight state */
-    protected boolean isHighlighted;
-
-    /** Breaking animation progress */
-    protected float breakProgress;
-
     /** Block illumination level */
-    protected final int lightLevel;
+    protected static final int LIGHT_LEVEL = 15;
 
-    /** Face direction indices */
-    protected static final int FRONT = 0;   // Z+
-    protected static final int BACK = 1;    // Z-
-    protected static final int TOP = 2;     // Y+
-    protected static final int BOTTOM = 3;  // Y-
-    protected static final int RIGHT = 4;   // X+
-    protected static final int LEFT = 5;    // X-
-
-    /**
-     * Creates block at specified position.
-     *
-     * @param position Block world coordinates
-     */
-    protected AbstractBlock(Vector3f position) {
-        this.position = position;
-        this.boundingBox = new BoundingBox(1.0f, 1.0f, 1.0f);
-        this.visibleFaces = new boolean[]{true, true, true, true, true, true};
-        this.isVisible = true;
-        this.isHighlighted = false;
-        this.breakProgress = 0.0f;
-        this.lightLevel = 15;
-        this.boundingBox.update(position);
-    }
+    /** Face direction indices, also bit positions in face masks */
+    public static final int FRONT = 0;   // Z+
+    public static final int BACK = 1;    // Z-
+    public static final int TOP = 2;     // Y+
+    public static final int BOTTOM = 3;  // Y-
+    public static final int RIGHT = 4;   // X+
+    public static final int LEFT = 5;    // X-
 
     /** Gets block type identifier */
     public abstract BlockType getType();
@@ -76,112 +42,38 @@ public abstract class AbstractBlock {
     /** Whether block is visually solid */
     public abstract boolean isOpaque();
 
-    /** Gets block geometry vertex data */
-    public abstract float[] getVertices();
-
-    /** Gets block geometry index data */
-    public abstract int[] getIndices();
-
-    /** Called when block is broken */
-    public abstract void onBreak(World world);
-
-    /** Called when block is placed */
-    public abstract void onPlace(World world);
-
-    /** Called to update block state */
-    public abstract void onUpdate(World world);
-
-    /** Gets block position */
-    public Vector3f getPosition() { return position; }
-
-    /** Gets collision bounds */
-    public BoundingBox getBoundingBox() { return boundingBox; }
-
-    /** Gets visibility state */
-    public boolean isVisible() { return isVisible; }
-
-    /** Sets visibility state */
-    public void setVisible(boolean visible) { isVisible = visible; }
-
-    /** Gets highlight state */
-    public boolean isHighlighted() { return isHighlighted; }
-
-    /** Sets highlight state */
-    public void setHighlighted(boolean highlighted) { isHighlighted = highlighted; }
-
-    /** Gets break progress */
-    public float getBreakProgress() { return breakProgress; }
-
-    /** Sets break progress */
-    public void setBreakProgress(float progress) { this.breakProgress = progress; }
-
-    /** Gets light level */
-    public int getLightLevel() { return lightLevel; }
-
     /**
-     * Updates which faces should be rendered based on neighbors.
+     * Gets block geometry vertex data.
      *
-     * @param world World containing this block
+     * @param x,y,z Block world coordinates
+     * @param faceMask Visible faces, one bit per face index
      */
-    public void updateVisibleFaces(World world) {
-        if (isCompletelyHidden(world)) {
-            Arrays.fill(visibleFaces, false);
-            isVisible = false;
-            return;
-        }
-
-        updateFaceVisibility(world);
-        updateOverallVisibility();
-    }
+    public abstract float[] getVertices(int x, int y, int z, int faceMask);
 
     /**
-     * Updates face visibility based on adjacent blocks.
+     * Gets block geometry index data.
+     *
+     * @param faceMask Visible faces, one bit per face index
      */
-    protected void updateFaceVisibility(World world) {
-        visibleFaces[TOP] = shouldRenderFace(world, 0, 1, 0);
-        visibleFaces[BOTTOM] = shouldRenderFace(world, 0, -1, 0);
-        visibleFaces[FRONT] = shouldRenderFace(world, 0, 0, 1);
-        visibleFaces[BACK] = shouldRenderFace(world, 0, 0, -1);
-        visibleFaces[RIGHT] = shouldRenderFace(world, 1, 0, 0);
-        visibleFaces[LEFT] = shouldRenderFace(world, -1, 0, 0);
-    }
+    public abstract int[] getIndices(int faceMask);
 
-    /**
-     * Updates overall visibility based on face states.
-     */
-    private void updateOverallVisibility() {
-        isVisible = false;
-        for (boolean face : visibleFaces) {
-            if (face) {
-                isVisible = true;
-                break;
-            }
-        }
-    }
+    /** Called when block is broken at position */
+    public abstract void onBreak(World world, int x, int y, int z);
 
-    /**
-     * Checks if face at offset should be rendered.
-     */
-    protected boolean shouldRenderFace(World world, int dx, int dy, int dz) {
-        Vector3f adjacentPos = new Vector3f(
-                position.x() + dx,
-                position.y() + dy,
-                position.z() + dz
-        );
-        AbstractBlock adjacent = world.getBlock(adjacentPos);
-        return adjacent == null || !adjacent.isOpaque();
-    }
+    /** Called when block is placed at position */
+    public abstract void onPlace(World world, int x, int y, int z);
+
+    /** Called to update block state at position */
+    public abstract void onUpdate(World world, int x, int y, int z);
+
+    /** Gets light level */
+    public int getLightLevel() { return LIGHT_LEVEL; }
 
     /**
-     * Checks if block is fully surrounded by opaque blocks.
+     * Checks if face index is set in face mask.
      */
-    private boolean isCompletelyHidden(World world) {
-        return !shouldRenderFace(world, 0, 1, 0) &&
-                !shouldRenderFace(world, 0, -1, 0) &&
-                !shouldRenderFace(world, 0, 0, 1) &&
-                !shouldRenderFace(world, 0, 0, -1) &&
-                !shouldRenderFace(world, 1, 0, 0) &&
-                !shouldRenderFace(world, -1, 0, 0);
+    protected static boolean hasFace(int faceMask, int face) {
+        return (faceMask & (1 << face)) != 0;
     }
 
     /**
@@ -202,4 +94,4 @@ public abstract class AbstractBlock {
         vertices.add(x3); vertices.add(y3); vertices.add(z3); vertices.add(u3); vertices.add(v3);
         vertices.add(x4); vertices.add(y4); vertices.add(z4); vertices.add(u4); vertices.add(v4);
     }
-}
\ No newline at end of file
+}
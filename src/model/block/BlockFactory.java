@@ -4,11 +4,13 @@ import model.block.blocks.BedrockBlock;
 import model.block.blocks.DirtBlock;
 import model.block.blocks.GrassBlock;
 import model.block.blocks.StoneBlock;
-import org.joml.Vector3f;
+
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
- * Factory for creating block instances based on type.
- * Uses static factory method pattern to instantiate appropriate block subclasses.
+ * Factory for shared block type instances.
+ * Block types are immutable flyweights, so one instance per type serves every voxel.
  *
  * @see AbstractBlock
  * @see BlockType
@@ -18,24 +20,47 @@ import org.joml.Vector3f;
  * @see BedrockBlock
  */
 public class BlockFactory {
+    /** Shared instance per block type */
+    private static final Map<BlockType, AbstractBlock> SHARED_BLOCKS = new EnumMap<>(BlockType.class);
+
+    static {
+        for (BlockType type : BlockType.values()) {
+            SHARED_BLOCKS.put(type, createBlock(type));
+        }
+    }
+
     /** Private constructor to prevent instantiation */
     private BlockFactory() {}
 
     /**
-     * Creates block instance of specified type at position.
+     * Gets shared block instance of specified type.
+     *
+     * @param type Block type
+     * @return Shared immutable block of appropriate subclass
+     * @throws IllegalArgumentException if type is unknown
+     */
+    public static AbstractBlock getBlock(BlockType type) {
+        AbstractBlock block = SHARED_BLOCKS.get(type);
+        if (block == null) {
+            throw new IllegalArgumentException("Unknown block type: " + type);
+        }
+        return block;
+    }
+
+    /**
+     * Creates block instance of specified type.
      *
      * @param type Block type determining class to instantiate
-     * @param position Position in world coordinates
      * @return New block instance of appropriate subclass
      * @throws IllegalArgumentException if type is unknown
      */
-    public static AbstractBlock createBlock(BlockType type, Vector3f position) {
+    private static AbstractBlock createBlock(BlockType type) {
         return switch (type) {
-            case DIRT -> new DirtBlock(position);
-            case GRASS -> new GrassBlock(position);
-            case STONE -> new StoneBlock(position);
-            case BEDROCK -> new BedrockBlock(position);
+            case DIRT -> new DirtBlock();
+            case GRASS -> new GrassBlock();
+            case STONE -> new StoneBlock();
+            case BEDROCK -> new BedrockBlock();
             default -> throw new IllegalArgumentException("Unknown block type: " + type);
         };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,51 @@
+package model.block;
+
+import org.joml.Vector3f;
+
+/**
+ * Shared block type at a world position with its visible faces.
+ * Lightweight value handed to rendering, physics and interaction code.
+ *
+ * @see AbstractBlock
+ * @see BlockFactory
+ */
+public record PlacedBlock(AbstractBlock block, int x, int y, int z, int faceMask) {
+
+    /** Gets block type identifier */
+    public BlockType getType() {
+        return block.getType();
+    }
+
+    /** Gets block position as a new vector */
+    public Vector3f getPosition() {
+        return new Vector3f(x, y, z);
+    }
+
+    /** Whether any face is visible */
+    public boolean isVisible() {
+        return faceMask != 0;
+    }
+
+    /** Gets vertex data for visible faces */
+    public float[] getVertices() {
+        return block.getVertices(x, y, z, faceMask);
+    }
+
+    /** Gets index data for visible faces */
+    public int[] getIndices() {
+        return block.getIndices(faceMask);
+    }
+
+    /** Gets light level */
+    public int getLightLevel() {
+        return block.getLightLevel();
+    }
+
+    /**
+     * Checks if other refers to the same block type at the same position.
+     * Face visibility is ignored since it changes with neighbors.
+     */
+    public boolean isSameBlock(PlacedBlock other) {
+        return other != null && other.block == block && other.x == x && other.y == y && other.z == z;
+    }
+}
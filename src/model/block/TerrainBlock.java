@@ -1,6 +1,5 @@
 package model.block;
 
-import org.joml.Vector3f;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -22,12 +21,10 @@ public abstract class TerrainBlock extends AbstractBlock {
     /**
      * Creates terrain block with properties.
      *
-     * @param position Block position in world
      * @param breakTime Time to break block
      * @param opaque Whether block is solid
      */
-    protected TerrainBlock(Vector3f position, float breakTime, boolean opaque) {
-        super(position);
+    protected TerrainBlock(float breakTime, boolean opaque) {
         this.breakTime = breakTime;
         this.opaque = opaque;
     }
@@ -52,13 +49,10 @@ public abstract class TerrainBlock extends AbstractBlock {
      * @return Array of vertex positions and texture coordinates
      */
     @Override
-    public float[] getVertices() {
+    public float[] getVertices(int x, int y, int z, int faceMask) {
         List<Float> vertices = new ArrayList<>();
-        float x = position.x();
-        float y = position.y();
-        float z = position.z();
 
-        if (visibleFaces[FRONT]) {
+        if (hasFace(faceMask, FRONT)) {
             addFaceVertices(vertices,
                 x - 0.5f, y + 0.5f, z + 0.5f, 0.0f, 0.0f,
                 x + 0.5f, y + 0.5f, z + 0.5f, 1.0f, 0.0f,
@@ -67,7 +61,7 @@ public abstract class TerrainBlock extends AbstractBlock {
             );
         }
 
-        if (visibleFaces[BACK]) {
+        if (hasFace(faceMask, BACK)) {
             addFaceVertices(vertices,
                 x + 0.5f, y + 0.5f, z - 0.5f, 0.0f, 0.0f,
                 x - 0.5f, y + 0.5f, z - 0.5f, 1.0f, 0.0f,
@@ -76,7 +70,7 @@ public abstract class TerrainBlock extends AbstractBlock {
             );
         }
 
-        if (visibleFaces[TOP]) {
+        if (hasFace(faceMask, TOP)) {
             addFaceVertices(vertices,
                 x - 0.5f, y + 0.5f, z - 0.5f, 0.0f, 0.0f,
                 x + 0.5f, y + 0.5f, z - 0.5f, 1.0f, 0.0f,
@@ -85,7 +79,7 @@ public abstract class TerrainBlock extends AbstractBlock {
             );
         }
 
-        if (visibleFaces[BOTTOM]) {
+        if (hasFace(faceMask, BOTTOM)) {
             addFaceVertices(vertices,
                 x - 0.5f, y - 0.5f, z + 0.5f, 0.0f, 0.0f,
                 x + 0.5f, y - 0.5f, z + 0.5f, 1.0f, 0.0f,
@@ -94,7 +88,7 @@ public abstract class TerrainBlock extends AbstractBlock {
             );
         }
 
-        if (visibleFaces[RIGHT]) {
+        if (hasFace(faceMask, RIGHT)) {
             addFaceVertices(vertices,
                 x + 0.5f, y + 0.5f, z + 0.5f, 0.0f, 0.0f,
                 x + 0.5f, y + 0.5f, z - 0.5f, 1.0f, 0.0f,
@@ -103,7 +97,7 @@ public abstract class TerrainBlock extends AbstractBlock {
             );
         }
 
-        if (visibleFaces[LEFT]) {
+        if (hasFace(faceMask, LEFT)) {
             addFaceVertices(vertices,
                 x - 0.5f, y + 0.5f, z - 0.5f, 0.0f, 0.0f,
                 x - 0.5f, y + 0.5f, z + 0.5f, 1.0f, 0.0f,
@@ -124,18 +118,15 @@ public abstract class TerrainBlock extends AbstractBlock {
      * @return Array of vertex indices defining triangles
      */
     @Override
-    public int[] getIndices() {
-        int visibleFaceCount = 0;
-        for (boolean visible : visibleFaces) {
-            if (visible) visibleFaceCount++;
-        }
+    public int[] getIndices(int faceMask) {
+        int visibleFaceCount = Integer.bitCount(faceMask);
 
         int[] indices = new int[visibleFaceCount * 6];
         int indexCount = 0;
         int vertexOffset = 0;
 
         for (int face = 0; face < 6; face++) {
-            if (visibleFaces[face]) {
+            if (hasFace(faceMask, face)) {
                 indices[indexCount++] = vertexOffset;
                 indices[indexCount++] = vertexOffset + 1;
                 indices[indexCount++] = vertexOffset + 2;
@@ -3,7 +3,6 @@ package model.block.blocks;
 import model.block.BlockType;
 import model.block.TerrainBlock;
 import model.world.World;
-import org.joml.Vector3f;
 
 /**
  * Indestructible bedrock block.
@@ -16,8 +15,8 @@ public class BedrockBlock extends TerrainBlock {
     private static final boolean IS_OPAQUE = true;
     private static final String TEXTURE_PATH = "resources/textures/bedrock.png";
 
-    public BedrockBlock(Vector3f position) {
-        super(position, BREAK_TIME, IS_OPAQUE);
+    public BedrockBlock() {
+        super(BREAK_TIME, IS_OPAQUE);
     }
 
     @Override
@@ -36,17 +35,17 @@ public class BedrockBlock extends TerrainBlock {
     }
 
     @Override
-    public void onBreak(World world) {
+    public void onBreak(World world, int x, int y, int z) {
         // Specific breaking behavior
     }
 
     @Override
-    public void onPlace(World world) {
+    public void onPlace(World world, int x, int y, int z) {
         // Specific placement behavior
     }
 
     @Override
-    public void onUpdate(World world) {
+    public void onUpdate(World world, int x, int y, int z) {
         // Specific update behavior
     }
 }
\ No newline at end of file
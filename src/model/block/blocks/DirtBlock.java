@@ -1,6 +1,5 @@
 package model.block.blocks;
 
-import model.block.AbstractBlock;
 import model.block.BlockType;
 import model.block.TerrainBlock;
 import org.joml.Vector3f;
@@ -22,13 +21,9 @@ public class DirtBlock extends TerrainBlock {
     // Time in seconds before dirt transforms to grass when exposed
     private static final float TRANSFORMATION_TIME = 5.0f;
 
-    // Track time since block was exposed
-    private float exposureTimer = 0.0f;
-    private boolean isExposed = false;
 
-
-    public DirtBlock(Vector3f position) {
-        super(position, BREAK_TIME, IS_OPAQUE);
+    public DirtBlock() {
+        super(BREAK_TIME, IS_OPAQUE);
     }
 
     @Override
@@ -47,42 +42,40 @@ public class DirtBlock extends TerrainBlock {
     }
 
     @Override
-    public void onBreak(World world) {
+    public void onBreak(World world, int x, int y, int z) {
         // Specific breaking behavior
     }
 
     @Override
-    public void onPlace(World world) {
+    public void onPlace(World world, int x, int y, int z) {
         // Specific placement behavior
     }
 
     @Override
-    public void onUpdate(World world) {
-        Vector3f abovePos = new Vector3f(position.x(), position.y() + 1, position.z());
-        AbstractBlock blockAbove = world.getBlock(abovePos);
-
-        boolean currentlyExposed = blockAbove == null || !blockAbove.isOpaque();
+    public void onUpdate(World world, int x, int y, int z) {
+        boolean currentlyExposed = !world.isOpaque(x, y + 1, z);
 
         if (currentlyExposed) {
-            // Block is exposed to air
-            if (!isExposed) {
+            // Block is exposed to air, timer is tracked by the world per position
+            Float exposureTimer = world.getBlockTimer(x, y, z);
+            if (exposureTimer == null) {
                 // Just became exposed, start timer
-                isExposed = true;
-                exposureTimer = 0.0f;
+                world.setBlockTimer(x, y, z, 0.0f);
             } else {
                 // Already exposed, increment timer
-                exposureTimer += GameClock.getInstance().getDeltaTime();
+                float elapsed = exposureTimer + GameClock.getInstance().getDeltaTime();
 
                 // Check if timer exceeded transformation time
-                if (exposureTimer >= TRANSFORMATION_TIME) {
+                if (elapsed >= TRANSFORMATION_TIME) {
                     // Replace this dirt block with grass
-                    world.placeBlock(position, BlockType.GRASS);
+                    world.placeBlock(new Vector3f(x, y, z), BlockType.GRASS);
+                } else {
+                    world.setBlockTimer(x, y, z, elapsed);
                 }
             }
         } else {
-            // Not exposed, reset timer and state
-            isExposed = false;
-            exposureTimer = 0.0f;
+            // Not exposed, reset timer
+            world.clearBlockTimer(x, y, z);
         }
     }
 }
\ No newline at end of file
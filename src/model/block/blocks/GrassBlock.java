@@ -1,6 +1,5 @@
 package model.block.blocks;
 
-import model.block.AbstractBlock;
 import model.block.BlockType;
 import model.block.TerrainBlock;
 import model.world.World;
@@ -19,8 +18,8 @@ public class GrassBlock extends TerrainBlock {
     private static final String TEXTURE_PATH = "resources/textures/grass.png";
 
 
-    public GrassBlock(Vector3f position) {
-        super(position, BREAK_TIME, IS_OPAQUE);
+    public GrassBlock() {
+        super(BREAK_TIME, IS_OPAQUE);
     }
 
     @Override
@@ -39,27 +38,22 @@ public class GrassBlock extends TerrainBlock {
     }
 
     @Override
-    public void onBreak(World world) {
+    public void onBreak(World world, int x, int y, int z) {
         // Specific breaking behavior
     }
 
     @Override
-    public void onPlace(World world) {
+    public void onPlace(World world, int x, int y, int z) {
         // Specific placement behavior
     }
 
     @Override
-    public void onUpdate(World world) {
-        Vector3f abovePos = new Vector3f(position.x(), position.y() + 1, position.z());
-        AbstractBlock blockAbove = world.getBlock(abovePos);
+    public void onUpdate(World world, int x, int y, int z) {
+        BlockType aboveType = world.getBlockType(x, y + 1, z);
 
-        if (blockAbove != null) {
-            BlockType aboveType = blockAbove.getType();
-
-            // Transform instantly if covered by dirt or grass block
-            if (aboveType == BlockType.DIRT || aboveType == BlockType.GRASS) {
-                world.placeBlock(position, BlockType.DIRT);
-            }
+        // Transform instantly if covered by dirt or grass block
+        if (aboveType == BlockType.DIRT || aboveType == BlockType.GRASS) {
+            world.placeBlock(new Vector3f(x, y, z), BlockType.DIRT);
         }
     }
 }
\ No newline at end of file
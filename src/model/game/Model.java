@@ -12,9 +12,13 @@ import model.save.WorldManager;
 import model.save.WorldSaveData;
 import model.statistics.DatabaseManager;
 import model.statistics.GameStatistics;
+import model.world.CaveSampling;
+import model.world.ChunkStore;
+import model.world.NoiseType;
 import model.world.World;
 import model.world.WorldData;
 import org.joml.Vector3f;
+import util.PerformanceMetrics;
 import view.menu.StatisticsDialog;
 
 import java.awt.*;
@@ -40,7 +44,8 @@ public class Model {
     /**
      * Creates game model with world and save data
      */
-    public Model(String worldName, long seed) {
+    public Model(String worldName, long seed, NoiseType noise, CaveSampling caveSampling) {
+        PerformanceMetrics.startWorldLoad();
         this.worldName = worldName;
         this.gameState = new GameState();
         this.lastSaveTime = System.currentTimeMillis();
@@ -50,7 +55,7 @@ public class Model {
         WorldSaveData savedData = WorldManager.loadWorldData(worldName);
         if (savedData == null) {
             // Attempt to save metadata before world creation
-            WorldManager.saveWorldMetadata(new WorldData(worldName, seed));
+            WorldManager.saveWorldMetadata(new WorldData(worldName, seed, noise, caveSampling));
         }
 
         // Setup initial position
@@ -67,8 +72,9 @@ public class Model {
             initialPosition = new Vector3f(0, 50, 0);
         }
 
-        // Initialize world and physics
-        this.world = new World(initialPosition, seed);
+        // Initialize world and physics, reading chunks pre-generated for this world
+        ChunkStore chunkStore = new ChunkStore(WorldManager.getChunkDirectory(worldName), noise, caveSampling);
+        this.world = new World(initialPosition, seed, noise, caveSampling, chunkStore);
         this.physicsSystem = new PhysicsSystem(world);
 
         // Restore block modifications
@@ -1,9 +1,7 @@
 package model.physics;
 
-import model.block.AbstractBlock;
 import model.world.World;
 import org.joml.Vector3f;
-import java.util.List;
 
 /**
  * Handles entity collision detection with blocks.
@@ -12,6 +10,10 @@ import java.util.List;
 public class CollisionSystem {
     private final World world;
 
+    /** Reused block bounds and center position */
+    private final BoundingBox blockBox = new BoundingBox(1, 1, 1);
+    private final Vector3f cellPos = new Vector3f();
+
 
     public CollisionSystem(World world) {
         this.world = world;
@@ -21,28 +23,27 @@ public class CollisionSystem {
      * Checks if a bounding box collides with any blocks in the world
      */
     public boolean checkCollision(BoundingBox box) {
-        // Get nearby blocks for collision check
-        List<AbstractBlock> nearbyAbstractBlocks = getNearbyBlocks(box);
+        // Block cells that could be hit during movement
+        int minX = (int) Math.floor(box.getMin().x() + 0.5f) - 1;
+        int minY = (int) Math.floor(box.getMin().y() + 0.5f) - 1;
+        int minZ = (int) Math.floor(box.getMin().z() + 0.5f) - 1;
+        int maxX = (int) Math.floor(box.getMax().x() + 0.5f) + 1;
+        int maxY = (int) Math.floor(box.getMax().y() + 0.5f) + 1;
+        int maxZ = (int) Math.floor(box.getMax().z() + 0.5f) + 1;
 
-        for (AbstractBlock abstractBlock : nearbyAbstractBlocks) {
-            if (box.intersects(abstractBlock.getBoundingBox())) {
-                return true;
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    if (!world.hasBlock(x, y, z)) {
+                        continue;
+                    }
+                    blockBox.update(cellPos.set(x, y, z));
+                    if (box.intersects(blockBox)) {
+                        return true;
+                    }
+                }
             }
         }
         return false;
     }
-
-    /**
-     * Gets blocks that could be hit during movement
-     */
-    private List<AbstractBlock> getNearbyBlocks(BoundingBox box) {
-        return world.getVisibleBlocks().stream()
-            .filter(block -> {
-                Vector3f pos = block.getPosition();
-                return pos.x() >= box.getMin().x() - 1 && pos.x() <= box.getMax().x() + 1 &&
-                        pos.y() >= box.getMin().y() - 1 && pos.y() <= box.getMax().y() + 1 &&
-                        pos.z() >= box.getMin().z() - 1 && pos.z() <= box.getMax().z() + 1;
-            })
-            .toList();
-    }
-}
\ No newline at end of file
+}
@@ -3,7 +3,6 @@ package model.physics;
 import config.GameConfig;
 import model.player.Player;
 import model.world.World;
-import model.block.AbstractBlock;
 import org.joml.Vector3f;
 
 /**
@@ -57,8 +56,11 @@ public class PhysicsSystem {
     /** Checks for block below player */
     private boolean isBlockBelow(Player player) {
         Vector3f pos = player.getPosition();
-        AbstractBlock abstractBlock = world.getBlock(new Vector3f(pos.x, pos.y - 0.5f, pos.z));
-        return abstractBlock != null && abstractBlock.getType() != null;
+        return world.hasBlock(
+            (int) Math.floor(pos.x + 0.5f),
+            (int) Math.floor(pos.y),
+            (int) Math.floor(pos.z + 0.5f)
+        );
     }
 
     /** Updates position with collision detection */
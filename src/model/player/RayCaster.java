@@ -1,7 +1,7 @@
 package model.player;
 
 import config.GameConfig;
-import model.block.AbstractBlock;
+import model.block.PlacedBlock;
 import model.world.World;
 import model.block.BlockDirection;
 import org.joml.Vector3f;
@@ -19,7 +19,7 @@ public class RayCaster {
 
     /** Result of a ray intersection test */
     private record RaycastResult(
-        AbstractBlock abstractBlock,
+        PlacedBlock block,
         Vector3f checkPos,
         Vector3f blockPos
     ) {}
@@ -34,13 +34,13 @@ public class RayCaster {
      * @param roll Unused rotation
      * @param world World to check
      */
-    public static AbstractBlock getTargetBlock(Vector3f cameraPosition, float yaw, float pitch, float roll, World world) {
+    public static PlacedBlock getTargetBlock(Vector3f cameraPosition, float yaw, float pitch, float roll, World world) {
         Vector3f direction = calculateDirection(yaw, pitch);
 
         for (float distance = 0; distance <= RAY_MAX_DISTANCE; distance += STEP) {
             RaycastResult result = getBlockAtRayPosition(cameraPosition, direction, distance, world);
-            if (result.abstractBlock() != null) {
-                return result.abstractBlock();
+            if (result != null) {
+                return result.block();
             }
         }
         return null;
@@ -64,7 +64,7 @@ public class RayCaster {
 
         for (float distance = 0; distance <= RAY_MAX_DISTANCE; distance += STEP) {
             RaycastResult result = getBlockAtRayPosition(cameraPosition, direction, distance, world);
-            if (result.abstractBlock() != null) {
+            if (result != null) {
                 // Entry point is one step back from hit
                 Vector3f entryPoint = new Vector3f(
                     result.checkPos().x - direction.x * STEP,
@@ -97,25 +97,30 @@ public class RayCaster {
 
     /**
      * Gets block at position along ray
-     * Returns block and ray positions
+     * Returns block and ray positions, or null if no block is hit
      */
     private static RaycastResult getBlockAtRayPosition(Vector3f cameraPosition, Vector3f direction, float distance, World world) {
         // Get position along ray
-        Vector3f checkPos = new Vector3f(
-            cameraPosition.x + direction.x * distance,
-            cameraPosition.y + direction.y * distance,
-            cameraPosition.z + direction.z * distance
-        );
+        float checkX = cameraPosition.x + direction.x * distance;
+        float checkY = cameraPosition.y + direction.y * distance;
+        float checkZ = cameraPosition.z + direction.z * distance;
 
         // Convert to block coordinates
-        Vector3f blockPos = new Vector3f(
-            (int) Math.floor(checkPos.x + 0.5f),
-            (int) Math.floor(checkPos.y + 0.5f),
-            (int) Math.floor(checkPos.z + 0.5f)
-        );
+        int blockX = (int) Math.floor(checkX + 0.5f);
+        int blockY = (int) Math.floor(checkY + 0.5f);
+        int blockZ = (int) Math.floor(checkZ + 0.5f);
 
-        AbstractBlock abstractBlock = world.getBlock(blockPos);
-        return new RaycastResult(abstractBlock, checkPos, blockPos);
+        // Misses are the common case, only allocate on hit
+        if (!world.hasBlock(blockX, blockY, blockZ)) {
+            return null;
+        }
+
+        PlacedBlock block = world.getPlacedBlock(blockX, blockY, blockZ);
+        return new RaycastResult(
+            block,
+            new Vector3f(checkX, checkY, checkZ),
+            new Vector3f(blockX, blockY, blockZ)
+        );
     }
 
     /**
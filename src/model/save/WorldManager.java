@@ -1,5 +1,7 @@
 package model.save;
 
+import model.world.CaveSampling;
+import model.world.NoiseType;
 import model.world.WorldData;
 
 import java.io.*;
@@ -16,6 +18,7 @@ public class WorldManager {
     private static final String WORLDS_DIR = "worlds";
     private static final String SAVES_DIR = WORLDS_DIR + File.separator + "saves";
     private static final String METADATA_FILE = WORLDS_DIR + File.separator + "worlds.properties";
+    private static final String CHUNKS_DIR = "chunks";
 
 
     /** Creates required directories */
@@ -32,6 +35,8 @@ public class WorldManager {
         try {
             Properties props = loadProperties();
             props.setProperty(world.name() + ".seed", String.valueOf(world.seed()));
+            props.setProperty(world.name() + ".noise", world.noise().name());
+            props.setProperty(world.name() + ".caveSampling", world.caveSampling().name());
             try (FileOutputStream out = new FileOutputStream(METADATA_FILE)) {
                 props.store(out, "World Metadata");
             }
@@ -55,6 +60,11 @@ public class WorldManager {
         }
     }
 
+    /** Gets directory of pre-generated chunk regions of a world */
+    public static File getChunkDirectory(String worldName) {
+        return new File(SAVES_DIR + File.separator + worldName + File.separator + CHUNKS_DIR);
+    }
+
     /** Loads world data from file */
     public static WorldSaveData loadWorldData(String worldName) {
         File saveFile = new File(SAVES_DIR + File.separator + worldName + File.separator + "data.dat");
@@ -77,7 +87,9 @@ public class WorldManager {
             if (key.endsWith(".seed")) {
                 String worldName = key.substring(0, key.length() - 5);
                 long seed = Long.parseLong(props.getProperty(key));
-                worlds.add(new WorldData(worldName, seed));
+                NoiseType noise = NoiseType.parse(props.getProperty(worldName + ".noise"));
+                CaveSampling caveSampling = CaveSampling.parse(props.getProperty(worldName + ".caveSampling"));
+                worlds.add(new WorldData(worldName, seed, noise, caveSampling));
             }
         }
 
@@ -109,13 +121,22 @@ public class WorldManager {
         // Remove metadata
         Properties props = loadProperties();
         props.remove(worldName + ".seed");
+        props.remove(worldName + ".noise");
+        props.remove(worldName + ".caveSampling");
         try (FileOutputStream out = new FileOutputStream(METADATA_FILE)) {
             props.store(out, "World Metadata");
         } catch (IOException e) {
             e.printStackTrace();
         }
 
-        // Delete save files
+        // Delete pre-generated chunks, then save files
+        File chunkDir = getChunkDirectory(worldName);
+        File[] regionFiles = chunkDir.listFiles();
+        if (regionFiles != null) {
+            for (File file : regionFiles) file.delete();
+        }
+        chunkDir.delete();
+
         File worldDir = new File(SAVES_DIR + File.separator + worldName);
         if (worldDir.exists()) {
             File[] files = worldDir.listFiles();
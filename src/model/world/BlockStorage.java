@@ -0,0 +1,66 @@
+package model.world;
+
+import model.block.BlockType;
+
+/**
+ * Block type storage for a fixed number of voxels, indexed like {@link Chunk}.
+ * Reads must tolerate a concurrent writer and return a possibly stale value
+ * instead of failing, callers validate optimistic reads afterwards.
+ *
+ * @see PalettedBlockStorage
+ * @see OffHeapBlockStorage
+ */
+public interface BlockStorage {
+
+    /**
+     * Gets block type at voxel index.
+     *
+     * @param index Voxel index
+     * @return Block type, or {@code null} for air
+     */
+    BlockType get(int index);
+
+    /**
+     * Sets block type at voxel index.
+     *
+     * @param index Voxel index
+     * @param type Block type, or {@code null} for air
+     */
+    void set(int index, BlockType type);
+
+    /**
+     * Sets every voxel to the same block type.
+     *
+     * @param type Block type, or {@code null} for air
+     */
+    default void fill(BlockType type) {
+        for (int index = 0; index < size(); index++) {
+            set(index, type);
+        }
+    }
+
+    /**
+     * Whether every voxel is known to hold the same type without scanning.
+     * May return false for storage that happens to be uniform.
+     */
+    default boolean isUniform() {
+        return isEmpty();
+    }
+
+    /** Gets number of non-air voxels */
+    int getBlockCount();
+
+    /** Whether every voxel is air */
+    default boolean isEmpty() {
+        return getBlockCount() == 0;
+    }
+
+    /** Gets number of voxels held */
+    int size();
+
+    /**
+     * Frees memory not managed by the garbage collector.
+     * The storage reads as air afterwards and must not be written.
+     */
+    default void release() {}
+}
@@ -0,0 +1,32 @@
+package model.world;
+
+/**
+ * How cave density noise is sampled during terrain generation.
+ * Coarse sampling changes cave shapes slightly, so it is chosen when the world is
+ * created and stored with its metadata.
+ */
+public enum CaveSampling {
+    /** Full noise at every block */
+    EXACT,
+
+    /** Noise on a world-aligned lattice every four blocks, trilinearly interpolated in between */
+    COARSE;
+
+    /** Lattice spacing of coarse sampling as a shift, divides every valid chunk size */
+    public static final int LATTICE_SHIFT = 2;
+
+    /**
+     * Parses sampling mode by name, worlds saved without one use exact sampling.
+     */
+    public static CaveSampling parse(String name) {
+        if (name == null) {
+            return EXACT;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid CAVE_SAMPLING " + name + ", using " + EXACT);
+            return EXACT;
+        }
+    }
+}
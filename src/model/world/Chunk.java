@@ -1,18 +1,61 @@
 package model.world;
 
+import config.GameConfig;
 import model.block.AbstractBlock;
+import model.block.BlockFactory;
+import model.block.BlockType;
+import model.block.PlacedBlock;
 import org.joml.Vector3f;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
 
 /**
  * Represents a chunk in the world, which contains blocks and is identified by its position.
+ * Block types live in a palette-compressed array over the chunk volume and resolve to shared
+ * block instances. Face visibility is kept per voxel and transient block state in sparse tables.
+ * Uniform chunks hold a single block type and, while no face is visible, no face array either.
+ * Single block reads are optimistic and never block, writes and full scans take the chunk's lock.
+ * Rendering reads the last published {@link ChunkSnapshot} and takes no lock at all.
  */
 public class Chunk {
+    /** Number of voxels in a chunk */
+    public static final int VOLUME = 1 << (3 * World.CHUNK_SHIFT);
+
+    /** Block types by voxel byte, 0 is air and n is ordinal n - 1 */
+    private static final BlockType[] TYPES = BlockType.values();
+
+    /** Whether voxel data is kept off the Java heap */
+    private static final boolean OFF_HEAP_STORAGE = GameConfig.OFF_HEAP_STORAGE;
+
+    /** Edge length of the opacity grid including a border voxel on each side */
+    private static final int PADDED_SIZE = World.CHUNK_SIZE + 2;
+
+    /** Row bits of a full row without border, voxel x is bit x + 1 */
+    private static final long FULL_ROW = ((1L << World.CHUNK_SIZE) - 1) << 1;
+
+    /** Axes of a chunk boundary layer */
+    private static final int AXIS_X = 0;
+    private static final int AXIS_Y = 1;
+    private static final int AXIS_Z = 2;
+
+    /** Shared face array of chunks without visible faces, never written */
+    private static final byte[] NO_FACES = new byte[VOLUME];
+
     private final Vector3f position;                           // Position of the chunk in the world
-    private final Map<Vector3f, AbstractBlock> blocks = new HashMap<>();    // Map of blocks within the chunk
+    private final int originX;                                 // World coordinates of the chunk's minimum corner
+    private final int originY;
+    private final int originZ;
+    private final BlockStorage storage = createStorage();                             // Block types by voxel index
+    private byte[] faceMasks = NO_FACES;                                              // Visible faces by voxel index
+    private final Map<Integer, Float> blockTimers = new HashMap<>();                  // Sparse per-block timers
+    private final StampedLock lock = new StampedLock();                              // Guards all of the above
+    private volatile ChunkSnapshot snapshot;                                          // Last published render view
 
     /**
      * Constructs a new chunk at the specified position.
@@ -21,25 +64,103 @@ public class Chunk {
      */
     public Chunk(Vector3f position) {
         this.position = position;
+        this.originX = (int) position.x() << World.CHUNK_SHIFT;
+        this.originY = (int) position.y() << World.CHUNK_SHIFT;
+        this.originZ = (int) position.z() << World.CHUNK_SHIFT;
+        this.snapshot = new ChunkSnapshot(
+            (int) position.x(), (int) position.y(), (int) position.z(), 0, Collections.emptyList()
+        );
     }
 
     /**
      * Adds or updates a block in the chunk.
      *
-     * @param abstractBlock The block to be added or updated.
+     * @param position The world position of the block.
+     * @param type The block type to set.
+     */
+    public void setBlock(Vector3f position, BlockType type) {
+        int index = indexOf(position);
+        if (index >= 0) {
+            writeType(index, type);
+        }
+    }
+
+    /**
+     * Sets block type at local chunk coordinates.
+     * Used by terrain generation.
+     *
+     * @param localX Local X coordinate (0 to CHUNK_SIZE - 1)
+     * @param localY Local Y coordinate (0 to CHUNK_SIZE - 1)
+     * @param localZ Local Z coordinate (0 to CHUNK_SIZE - 1)
+     * @param type Block type, or {@code null} for air
+     */
+    public void setBlock(int localX, int localY, int localZ, BlockType type) {
+        writeType(localIndex(localX, localY, localZ), type);
+    }
+
+    /**
+     * Sets every voxel to the same block type, keeping a single value instead of per-voxel data.
+     * Used by terrain generation for chunks classified as uniform.
+     *
+     * @param type Block type, or {@code null} for air
      */
-    public void setBlock(AbstractBlock abstractBlock) {
-        blocks.put(abstractBlock.getPosition(), abstractBlock);
+    public void fill(BlockType type) {
+        long stamp = lock.writeLock();
+        try {
+            storage.fill(type);
+            blockTimers.clear();
+            faceMasks = NO_FACES;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
     }
 
     /**
-     * Retrieves a block at the specified position within the chunk.
+     * Retrieves the shared block at the specified position within the chunk.
      *
      * @param position The position of the block to retrieve.
      * @return The block at the specified position, or {@code null} if no block exists.
      */
     public AbstractBlock getBlock(Vector3f position) {
-        return blocks.get(position);
+        int index = indexOf(position);
+        if (index < 0) {
+            return null;
+        }
+        BlockType type = readType(index);
+        return type != null ? BlockFactory.getBlock(type) : null;
+    }
+
+    /**
+     * Retrieves the block type at world block coordinates within the chunk.
+     *
+     * @param x,y,z The world coordinates of the block.
+     * @return The block type, or {@code null} for air or coordinates outside the chunk.
+     */
+    public BlockType getBlockType(int x, int y, int z) {
+        int index = indexOf(x, y, z);
+        return index >= 0 ? readType(index) : null;
+    }
+
+    /**
+     * Retrieves the block at world block coordinates together with its visible faces.
+     *
+     * @param x,y,z The world coordinates of the block.
+     * @return The placed block, or {@code null} if no block exists.
+     */
+    public PlacedBlock getPlacedBlock(int x, int y, int z) {
+        int index = indexOf(x, y, z);
+        return index >= 0 ? readPlacedBlock(index) : null;
+    }
+
+    /**
+     * Retrieves the block at the specified position together with its visible faces.
+     *
+     * @param position The position of the block to retrieve.
+     * @return The placed block, or {@code null} if no block exists.
+     */
+    public PlacedBlock getPlacedBlock(Vector3f position) {
+        int index = indexOf(position);
+        return index >= 0 ? readPlacedBlock(index) : null;
     }
 
     /**
@@ -48,16 +169,247 @@ public class Chunk {
      * @param position The position of the block to remove.
      */
     public void removeBlock(Vector3f position) {
-        blocks.remove(position);
+        int index = indexOf(position);
+        if (index >= 0) {
+            writeType(index, null);
+        }
     }
 
     /**
      * Retrieves all blocks in the chunk.
      *
-     * @return A collection of all blocks contained in the chunk.
+     * @return A list of all blocks contained in the chunk.
+     */
+    public List<PlacedBlock> getBlocks() {
+        long stamp = lock.readLock();
+        try {
+            List<PlacedBlock> blocks = new ArrayList<>(storage.getBlockCount());
+            for (int index = 0; index < VOLUME; index++) {
+                PlacedBlock block = placedBlockAt(index);
+                if (block != null) {
+                    blocks.add(block);
+                }
+            }
+            return blocks;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Retrieves the blocks with at least one visible face.
+     *
+     * @return A list of the chunk's surface blocks.
+     */
+    public List<PlacedBlock> getSurfaceBlocks() {
+        long stamp = lock.readLock();
+        try {
+            return collectSurfaceBlocks();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Retrieves the last published render view of the chunk.
+     *
+     * @return The current snapshot, never {@code null}.
+     */
+    public ChunkSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Publishes a new snapshot of the chunk's current surface blocks.
+     * Called once the chunk's faces are up to date.
+     */
+    public void publishSnapshot() {
+        long stamp = lock.readLock();
+        try {
+            snapshot = new ChunkSnapshot(
+                (int) position.x(), (int) position.y(), (int) position.z(),
+                storage.getBlockCount(),
+                Collections.unmodifiableList(collectSurfaceBlocks())
+            );
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Gets number of non-air blocks in the chunk.
+     *
+     * @return The block count.
+     */
+    public int getBlockCount() {
+        return storage.getBlockCount();
+    }
+
+    /**
+     * Recomputes face visibility of every block in the chunk from opacity bitsets.
+     * Each row along X is a long holding its voxels plus one border voxel on either side,
+     * so the six face masks of a row come from shifts and ANDs against neighboring rows.
+     * Border rows are read from loaded neighbor chunks, missing neighbors count as air.
+     * No chunk lock is held while another is taken, only the result is swapped in under this one.
+     *
+     * @param world The world used to find neighbor chunks.
+     */
+    public void updateBlockFaces(World world) {
+        long[] blocks = new long[World.CHUNK_SIZE * World.CHUNK_SIZE];
+        long[] opaque = new long[PADDED_SIZE * PADDED_SIZE];
+        if (!readOpacity(blocks, opaque)) {
+            clearFaces();
+            return;
+        }
+        readNeighborBorders(world, opaque);
+
+        byte[] masks = new byte[VOLUME];
+        boolean anyVisible = false;
+        for (int row = 0; row < blocks.length; row++) {
+            long present = blocks[row];
+            if (present == 0) {
+                continue;
+            }
+
+            int padded = paddedRow(row);
+            long center = opaque[padded];
+            long front = present & ~opaque[padded + 1];
+            long back = present & ~opaque[padded - 1];
+            long top = present & ~opaque[padded + PADDED_SIZE];
+            long bottom = present & ~opaque[padded - PADDED_SIZE];
+            long right = present & ~(center >>> 1);
+            long left = present & ~(center << 1);
+
+            long visible = front | back | top | bottom | right | left;
+            anyVisible |= visible != 0;
+            while (visible != 0) {
+                int bit = Long.numberOfTrailingZeros(visible);
+                visible &= visible - 1;
+                masks[(row << World.CHUNK_SHIFT) | (bit - 1)] = (byte) (
+                    faceBit(front, bit, AbstractBlock.FRONT) | faceBit(back, bit, AbstractBlock.BACK)
+                    | faceBit(top, bit, AbstractBlock.TOP) | faceBit(bottom, bit, AbstractBlock.BOTTOM)
+                    | faceBit(right, bit, AbstractBlock.RIGHT) | faceBit(left, bit, AbstractBlock.LEFT)
+                );
+            }
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            // Blocks removed meanwhile must not keep faces
+            for (int index = 0; anyVisible && index < VOLUME; index++) {
+                if (masks[index] != 0 && storage.get(index) == null) {
+                    masks[index] = 0;
+                }
+            }
+            faceMasks = anyVisible ? masks : NO_FACES;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Gets the timer value tracked for a block.
+     *
+     * @param x,y,z The world coordinates of the block.
+     * @return The timer value, or {@code null} if none is tracked.
+     */
+    public Float getBlockTimer(int x, int y, int z) {
+        long stamp = lock.readLock();
+        try {
+            return blockTimers.get(indexOf(x, y, z));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Starts or updates the timer tracked for a block.
+     *
+     * @param x,y,z The world coordinates of the block.
+     * @param value The timer value.
+     */
+    public void setBlockTimer(int x, int y, int z, float value) {
+        int index = indexOf(x, y, z);
+        if (index >= 0) {
+            long stamp = lock.writeLock();
+            try {
+                blockTimers.put(index, value);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * Stops tracking the timer for a block.
+     *
+     * @param x,y,z The world coordinates of the block.
+     */
+    public void clearBlockTimer(int x, int y, int z) {
+        long stamp = lock.writeLock();
+        try {
+            blockTimers.remove(indexOf(x, y, z));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Copies block types into a byte per voxel, 0 for air, by voxel index.
+     * Used to keep unloaded chunks in the {@link ChunkCache}.
+     *
+     * @return The encoded voxels.
+     */
+    public byte[] exportVoxels() {
+        byte[] voxels = new byte[VOLUME];
+        long stamp = lock.readLock();
+        try {
+            for (int index = 0; index < VOLUME; index++) {
+                BlockType type = storage.get(index);
+                if (type != null) {
+                    voxels[index] = (byte) (type.ordinal() + 1);
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return voxels;
+    }
+
+    /**
+     * Sets block types from voxels encoded by {@link #exportVoxels()}.
+     *
+     * @param voxels One byte per voxel, 0 for air.
+     */
+    public void importVoxels(byte[] voxels) {
+        long stamp = lock.writeLock();
+        try {
+            // Uniform chunks come back as a single value
+            if (isSingleValue(voxels)) {
+                storage.fill(voxels[0] == 0 ? null : TYPES[voxels[0] - 1]);
+                return;
+            }
+            for (int index = 0; index < VOLUME; index++) {
+                if (voxels[index] != 0) {
+                    storage.set(index, TYPES[voxels[index] - 1]);
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Frees voxel memory held outside the heap once the chunk is unloaded.
+     * The chunk reads as empty afterwards.
      */
-    public Collection<AbstractBlock> getBlocks() {
-        return blocks.values();
+    public void release() {
+        long stamp = lock.writeLock();
+        try {
+            storage.release();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
     }
 
     /**
@@ -68,4 +420,307 @@ public class Chunk {
     public Vector3f getPosition() {
         return position;
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates voxel storage for the configured backend.
+     */
+    private static BlockStorage createStorage() {
+        return OFF_HEAP_STORAGE ? new OffHeapBlockStorage(VOLUME) : new PalettedBlockStorage(VOLUME);
+    }
+
+    /**
+     * Stores block type and drops state belonging to the previous block.
+     */
+    private void writeType(int index, BlockType type) {
+        long stamp = lock.writeLock();
+        try {
+            storage.set(index, type);
+            if (!blockTimers.isEmpty()) {
+                blockTimers.remove(index);
+            }
+            if (type == null && faceMasks != NO_FACES) {
+                faceMasks[index] = 0;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Reads block type, retrying under the read lock if a write overlapped.
+     */
+    private BlockType readType(int index) {
+        long stamp = lock.tryOptimisticRead();
+        BlockType type = storage.get(index);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                type = storage.get(index);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return type;
+    }
+
+    /**
+     * Reads placed block, retrying under the read lock if a write overlapped.
+     */
+    private PlacedBlock readPlacedBlock(int index) {
+        long stamp = lock.tryOptimisticRead();
+        PlacedBlock block = placedBlockAt(index);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                block = placedBlockAt(index);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return block;
+    }
+
+    /**
+     * Collects blocks with visible faces, caller must hold the lock.
+     */
+    private List<PlacedBlock> collectSurfaceBlocks() {
+        List<PlacedBlock> blocks = new ArrayList<>();
+        if (faceMasks == NO_FACES) {
+            return blocks;
+        }
+        for (int index = 0; index < VOLUME; index++) {
+            if (faceMasks[index] != 0) {
+                blocks.add(placedBlockAt(index));
+            }
+        }
+        return blocks;
+    }
+
+    /**
+     * Builds placed block for voxel, or {@code null} for air.
+     * Caller must hold the lock or validate an optimistic stamp.
+     */
+    private PlacedBlock placedBlockAt(int index) {
+        BlockType type = storage.get(index);
+        if (type == null) {
+            return null;
+        }
+        return new PlacedBlock(
+            BlockFactory.getBlock(type), worldX(index), worldY(index), worldZ(index), faceMasks[index]
+        );
+    }
+
+    /**
+     * Drops all visible faces.
+     */
+    private void clearFaces() {
+        long stamp = lock.writeLock();
+        try {
+            faceMasks = NO_FACES;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Reads rows of non-air and opaque voxels of the chunk.
+     * Opaque rows are written into the grid with border, leaving the border itself.
+     *
+     * @param blocks Receives non-air voxels by row y * CHUNK_SIZE + z
+     * @param opaque Receives opaque voxels by row (y + 1) * PADDED_SIZE + z + 1
+     * @return false for chunks without blocks
+     */
+    private boolean readOpacity(long[] blocks, long[] opaque) {
+        long stamp = lock.readLock();
+        try {
+            if (storage.isEmpty()) {
+                return false;
+            }
+
+            // Uniform chunks fill whole rows instead of reading each voxel
+            if (storage.isUniform()) {
+                boolean opaqueType = isOpaque(storage.get(0));
+                Arrays.fill(blocks, FULL_ROW);
+                for (int row = 0; opaqueType && row < blocks.length; row++) {
+                    opaque[paddedRow(row)] = FULL_ROW;
+                }
+                return true;
+            }
+
+            for (int index = 0; index < VOLUME; index++) {
+                BlockType type = storage.get(index);
+                if (type != null) {
+                    int row = index >>> World.CHUNK_SHIFT;
+                    long bit = 1L << ((index & World.CHUNK_MASK) + 1);
+                    blocks[row] |= bit;
+                    if (isOpaque(type)) {
+                        opaque[paddedRow(row)] |= bit;
+                    }
+                }
+            }
+            return true;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Fills the border of the opacity grid from the boundary layers of loaded neighbors.
+     */
+    private void readNeighborBorders(World world, long[] opaque) {
+        int chunkX = (int) position.x();
+        int chunkY = (int) position.y();
+        int chunkZ = (int) position.z();
+        int last = World.CHUNK_SIZE + 1;
+
+        // Y and Z neighbors supply whole rows along X
+        long[] layer = readNeighborLayer(world, chunkX, chunkY - 1, chunkZ, AXIS_Y, World.CHUNK_MASK);
+        for (int z = 0; layer != null && z < World.CHUNK_SIZE; z++) {
+            opaque[z + 1] = layer[z];
+        }
+        layer = readNeighborLayer(world, chunkX, chunkY + 1, chunkZ, AXIS_Y, 0);
+        for (int z = 0; layer != null && z < World.CHUNK_SIZE; z++) {
+            opaque[last * PADDED_SIZE + z + 1] = layer[z];
+        }
+        layer = readNeighborLayer(world, chunkX, chunkY, chunkZ - 1, AXIS_Z, World.CHUNK_MASK);
+        for (int y = 0; layer != null && y < World.CHUNK_SIZE; y++) {
+            opaque[(y + 1) * PADDED_SIZE] = layer[y];
+        }
+        layer = readNeighborLayer(world, chunkX, chunkY, chunkZ + 1, AXIS_Z, 0);
+        for (int y = 0; layer != null && y < World.CHUNK_SIZE; y++) {
+            opaque[(y + 1) * PADDED_SIZE + last] = layer[y];
+        }
+
+        // X neighbors supply the outer bit of every row
+        long[] west = readNeighborLayer(world, chunkX - 1, chunkY, chunkZ, AXIS_X, World.CHUNK_MASK);
+        long[] east = readNeighborLayer(world, chunkX + 1, chunkY, chunkZ, AXIS_X, 0);
+        for (int y = 0; y < World.CHUNK_SIZE; y++) {
+            for (int z = 0; z < World.CHUNK_SIZE; z++) {
+                int row = (y + 1) * PADDED_SIZE + z + 1;
+                if (west != null && (west[y] & (1L << (z + 1))) != 0) {
+                    opaque[row] |= 1L;
+                }
+                if (east != null && (east[y] & (1L << (z + 1))) != 0) {
+                    opaque[row] |= 1L << last;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a boundary layer of a neighbor chunk, or {@code null} if it is not loaded.
+     */
+    private static long[] readNeighborLayer(World world, int chunkX, int chunkY, int chunkZ, int axis, int layer) {
+        Chunk neighbor = world.getChunk(chunkX, chunkY, chunkZ);
+        return neighbor != null ? neighbor.readOpaqueLayer(axis, layer) : null;
+    }
+
+    /**
+     * Reads opaque voxels of the layer at a local coordinate along an axis.
+     * Rows of X and Z layers run along Y, rows of Y layers along Z;
+     * bits follow X, or Z for X layers, offset by one like the opacity grid.
+     */
+    private long[] readOpaqueLayer(int axis, int layer) {
+        long[] rows = new long[World.CHUNK_SIZE];
+        long stamp = lock.readLock();
+        try {
+            if (storage.isEmpty()) {
+                return rows;
+            }
+            for (int row = 0; row < World.CHUNK_SIZE; row++) {
+                for (int bit = 0; bit < World.CHUNK_SIZE; bit++) {
+                    int index = switch (axis) {
+                        case AXIS_X -> localIndex(layer, row, bit);
+                        case AXIS_Y -> localIndex(bit, layer, row);
+                        default -> localIndex(bit, row, layer);
+                    };
+                    if (isOpaque(storage.get(index))) {
+                        rows[row] |= 1L << (bit + 1);
+                    }
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return rows;
+    }
+
+    /**
+     * Converts chunk row y * CHUNK_SIZE + z to the same row of the opacity grid.
+     */
+    private static int paddedRow(int row) {
+        return ((row >>> World.CHUNK_SHIFT) + 1) * PADDED_SIZE + (row & World.CHUNK_MASK) + 1;
+    }
+
+    /**
+     * Moves the bit of a face mask row to the face's bit of a voxel face mask.
+     */
+    private static int faceBit(long faces, int bit, int face) {
+        return (int) ((faces >>> bit) & 1) << face;
+    }
+
+    /**
+     * Whether block type hides faces behind it, air does not.
+     */
+    private static boolean isOpaque(BlockType type) {
+        return type != null && BlockFactory.getBlock(type).isOpaque();
+    }
+
+    /**
+     * Whether all encoded voxels hold the same value.
+     */
+    private static boolean isSingleValue(byte[] voxels) {
+        for (int index = 1; index < VOLUME; index++) {
+            if (voxels[index] != voxels[0]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** World coordinates of voxel index */
+    private int worldX(int index) {
+        return originX + (index & World.CHUNK_MASK);
+    }
+
+    private int worldY(int index) {
+        return originY + (index >>> (2 * World.CHUNK_SHIFT));
+    }
+
+    private int worldZ(int index) {
+        return originZ + ((index >>> World.CHUNK_SHIFT) & World.CHUNK_MASK);
+    }
+
+    /**
+     * Converts world position to voxel index, or -1 if outside the chunk.
+     */
+    private int indexOf(Vector3f position) {
+        return indexOf(
+            (int) Math.floor(position.x()),
+            (int) Math.floor(position.y()),
+            (int) Math.floor(position.z())
+        );
+    }
+
+    /**
+     * Converts world block coordinates to voxel index, or -1 if outside the chunk.
+     */
+    private int indexOf(int x, int y, int z) {
+        int localX = x - originX;
+        int localY = y - originY;
+        int localZ = z - originZ;
+
+        // Any bit above the mask means a negative or too large offset
+        if (((localX | localY | localZ) & ~World.CHUNK_MASK) != 0) {
+            return -1;
+        }
+        return localIndex(localX, localY, localZ);
+    }
+
+    /**
+     * Converts local coordinates to voxel index, X varying fastest.
+     */
+    private static int localIndex(int localX, int localY, int localZ) {
+        return (((localY << World.CHUNK_SHIFT) | localZ) << World.CHUNK_SHIFT) | localX;
+    }
+}
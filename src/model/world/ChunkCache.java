@@ -0,0 +1,166 @@
+package model.world;
+
+import org.joml.Vector3f;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Bounded cache of recently unloaded chunks.
+ * Keeps voxel data of dropped chunks in least recently used order so walking
+ * back over a chunk border restores chunks instead of regenerating them from
+ * noise. Entries are evicted once the memory cap is exceeded.
+ *
+ * @see Chunk
+ * @see World
+ */
+public class ChunkCache {
+    /** Estimated bytes per entry besides voxel data */
+    private static final int ENTRY_OVERHEAD = 64;
+
+    /** Cached voxel data by packed chunk coordinates, in access order */
+    private final LinkedHashMap<Long, CachedChunk> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxBytes;
+    private final boolean compressed;
+    private long usedBytes;
+
+
+    /**
+     * Creates cache bounded by memory estimate.
+     *
+     * @param maxBytes Memory cap for cached voxel data, 0 disables the cache
+     * @param compressed Whether voxel data is stored deflated
+     */
+    public ChunkCache(long maxBytes, boolean compressed) {
+        this.maxBytes = maxBytes;
+        this.compressed = compressed;
+    }
+
+    /**
+     * Stores voxel data of an unloaded chunk, evicting old entries over the cap.
+     *
+     * @param chunk Chunk being unloaded, must not be released yet
+     */
+    public void put(Chunk chunk) {
+        if (maxBytes <= 0) {
+            return;
+        }
+
+        byte[] voxels = chunk.exportVoxels();
+        CachedChunk entry = compressed ? new CachedChunk(deflate(voxels), true) : new CachedChunk(voxels, false);
+        long key = ChunkRegistry.pack(chunk.getPosition());
+
+        synchronized (entries) {
+            CachedChunk previous = entries.put(key, entry);
+            if (previous != null) {
+                usedBytes -= previous.size();
+            }
+            usedBytes += entry.size();
+            evictOverCap();
+        }
+    }
+
+    /**
+     * Removes and restores cached chunk at chunk coordinates.
+     *
+     * @return Restored chunk with faces not yet computed, or {@code null} if not cached
+     */
+    public Chunk take(int x, int y, int z) {
+        CachedChunk entry;
+        synchronized (entries) {
+            entry = entries.remove(ChunkRegistry.pack(x, y, z));
+            if (entry != null) {
+                usedBytes -= entry.size();
+            }
+        }
+
+        if (entry == null) {
+            return null;
+        }
+
+        byte[] voxels = entry.compressed() ? inflate(entry.data()) : entry.data();
+        Chunk chunk = new Chunk(new Vector3f(x, y, z));
+        chunk.importVoxels(voxels);
+        return chunk;
+    }
+
+    /** Gets number of cached chunks */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /** Gets estimated memory held by cached chunks */
+    public long getUsedBytes() {
+        synchronized (entries) {
+            return usedBytes;
+        }
+    }
+
+    /** Drops all cached chunks */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            usedBytes = 0;
+        }
+    }
+
+    /**
+     * Removes least recently used entries until under the cap.
+     */
+    private void evictOverCap() {
+        Iterator<Map.Entry<Long, CachedChunk>> iterator = entries.entrySet().iterator();
+        while (usedBytes > maxBytes && iterator.hasNext()) {
+            usedBytes -= iterator.next().getValue().size();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Compresses voxel data.
+     */
+    static byte[] deflate(byte[] voxels) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(voxels);
+            deflater.finish();
+            byte[] buffer = new byte[voxels.length + 64];
+            int length = deflater.deflate(buffer);
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Decompresses voxel data of a full chunk.
+     */
+    static byte[] inflate(byte[] data) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            byte[] voxels = new byte[Chunk.VOLUME];
+            inflater.inflate(voxels);
+            return voxels;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted cached chunk", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Voxel data of one cached chunk.
+     */
+    private record CachedChunk(byte[] data, boolean compressed) {
+        long size() {
+            return data.length + ENTRY_OVERHEAD;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package model.world;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+
+/**
+ * Vertical stack of chunk sections sharing the same X/Z chunk coordinates.
+ * Holds the column heightmap and tracks which sections are loaded. Sections
+ * known to be empty are only recorded by their Y coordinate and never allocated.
+ * Section tracking is thread-safe, the heightmap is only changed by the game thread.
+ *
+ * @see Chunk
+ * @see World
+ */
+public class ChunkColumn {
+    /** Column coordinates in chunk units */
+    private final int x;
+    private final int z;
+
+    /** Generated terrain height per local X/Z, indexed localZ * CHUNK_SIZE + localX */
+    private final int[] terrainHeights;
+    private final int minTerrainHeight;
+    private final int maxTerrainHeight;
+
+    /** Highest block Y per local X/Z, follows block placement and removal */
+    private final int[] heightmap;
+
+    /** Loaded sections by chunk Y, allocated ones and empty ones */
+    private final Map<Integer, Chunk> sections = new ConcurrentHashMap<>();
+    private final Set<Integer> emptySections = ConcurrentHashMap.newKeySet();
+
+
+    /**
+     * Creates column from generated terrain heights.
+     *
+     * @param x,z Column coordinates in chunk units
+     * @param terrainHeights Surface height per local X/Z
+     */
+    public ChunkColumn(int x, int z, int[] terrainHeights) {
+        this.x = x;
+        this.z = z;
+        this.terrainHeights = terrainHeights;
+        this.heightmap = terrainHeights.clone();
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int height : terrainHeights) {
+            min = Math.min(min, height);
+            max = Math.max(max, height);
+        }
+        this.minTerrainHeight = min;
+        this.maxTerrainHeight = max;
+    }
+
+    /** Gets column X in chunk units */
+    public int getX() {
+        return x;
+    }
+
+    /** Gets column Z in chunk units */
+    public int getZ() {
+        return z;
+    }
+
+    /** Gets generated terrain height at local coordinates */
+    public int getTerrainHeight(int localX, int localZ) {
+        return terrainHeights[columnIndex(localX, localZ)];
+    }
+
+    /** Gets lowest generated terrain height in the column */
+    public int getMinTerrainHeight() {
+        return minTerrainHeight;
+    }
+
+    /** Gets highest generated terrain height in the column */
+    public int getMaxTerrainHeight() {
+        return maxTerrainHeight;
+    }
+
+    /** Gets Y of highest block at local coordinates */
+    public int getHeight(int localX, int localZ) {
+        return heightmap[columnIndex(localX, localZ)];
+    }
+
+    /** Sets Y of highest block at local coordinates */
+    public void setHeight(int localX, int localZ, int height) {
+        heightmap[columnIndex(localX, localZ)] = height;
+    }
+
+    /**
+     * Checks if generation leaves section without blocks.
+     * True for sky sections entirely above the terrain.
+     */
+    public boolean isSkySection(int sectionY) {
+        return sectionY << World.CHUNK_SHIFT > maxTerrainHeight;
+    }
+
+    /** Registers allocated section */
+    public void addSection(Chunk chunk) {
+        int sectionY = (int) chunk.getPosition().y();
+        sections.put(sectionY, chunk);
+        emptySections.remove(sectionY);
+    }
+
+    /** Marks section as loaded without allocating it */
+    public void addEmptySection(int sectionY) {
+        emptySections.add(sectionY);
+    }
+
+    /** Gets allocated section, or {@code null} if empty or not loaded */
+    public Chunk getSection(int sectionY) {
+        return sections.get(sectionY);
+    }
+
+    /** Whether section was loaded, allocated or not */
+    public boolean isSectionLoaded(int sectionY) {
+        return sections.containsKey(sectionY) || emptySections.contains(sectionY);
+    }
+
+    /** Whether section is loaded but has no allocated chunk */
+    public boolean isEmptySection(int sectionY) {
+        return emptySections.contains(sectionY);
+    }
+
+    /** Whether no section is loaded, allocated or not */
+    public boolean isEmpty() {
+        return sections.isEmpty() && emptySections.isEmpty();
+    }
+
+    /** Gets allocated sections */
+    public Collection<Chunk> getSections() {
+        return sections.values();
+    }
+
+    /**
+     * Unloads single section, allocated or empty.
+     *
+     * @return true if no sections remain loaded
+     */
+    public boolean removeSection(int sectionY) {
+        sections.remove(sectionY);
+        emptySections.remove(sectionY);
+        return isEmpty();
+    }
+
+    /**
+     * Unloads sections whose Y matches filter.
+     *
+     * @return true if no sections remain loaded
+     */
+    public boolean removeSectionsIf(IntPredicate filter) {
+        sections.keySet().removeIf(filter::test);
+        emptySections.removeIf(filter::test);
+        return isEmpty();
+    }
+
+    /**
+     * Converts local coordinates to column index, X varying fastest.
+     */
+    private static int columnIndex(int localX, int localZ) {
+        return (localZ << World.CHUNK_SHIFT) | localX;
+    }
+}
@@ -1,25 +1,76 @@
 package model.world;
 
-import controller.event.EventBus;
-import controller.event.WorldGenerationEvent;
 import org.joml.Vector3f;
 
+import java.util.function.Function;
+
 /**
  * Chunk load work unit.
- * Posts generation event for position.
+ * Builds a detached chunk for position on a worker thread. Ordered by
+ * priority, lower values load first.
  */
 public class ChunkLoadTask {
+    /** How much facing away from the chunk delays it, 1 doubles the cost of chunks behind */
+    private static final double VIEW_ANGLE_WEIGHT = 1.0;
+
     /** Target chunk position */
     private final Vector3f position;
+    private final Function<Vector3f, GeneratedChunk> builder;
+    private final long queuedNanos = System.nanoTime();
+    private double priority;
+    private GeneratedChunk result;
 
 
     /** Creates task for position */
-    public ChunkLoadTask(Vector3f position) {
+    public ChunkLoadTask(Vector3f position, Function<Vector3f, GeneratedChunk> builder) {
         this.position = new Vector3f(position);
+        this.builder = builder;
+    }
+
+    /** Gets target chunk position */
+    public Vector3f getPosition() {
+        return position;
+    }
+
+    /** Gets time the task was created, in {@link System#nanoTime()} units */
+    public long getQueuedNanos() {
+        return queuedNanos;
+    }
+
+    /** Gets built chunk, or {@code null} before the task ran */
+    public GeneratedChunk getResult() {
+        return result;
+    }
+
+    /** Gets load priority, lower loads first */
+    public double getPriority() {
+        return priority;
+    }
+
+    /**
+     * Recomputes priority from distance to the player and angle to the view direction.
+     *
+     * @param focusChunk Player chunk coordinates
+     * @param viewDirection Normalized camera look direction
+     */
+    public void updatePriority(Vector3f focusChunk, Vector3f viewDirection) {
+        float dx = position.x() - focusChunk.x();
+        float dy = position.y() - focusChunk.y();
+        float dz = position.z() - focusChunk.z();
+        double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (distance == 0) {
+            priority = 0;
+            return;
+        }
+
+        // Cosine of the angle to the view direction, 1 straight ahead and -1 behind
+        double facing = (dx * viewDirection.x() + dy * viewDirection.y() + dz * viewDirection.z()) / distance;
+        priority = distance * (1 + VIEW_ANGLE_WEIGHT * (1 - facing) / 2);
     }
 
-    /** Posts generation event */
-    public void execute() {
-        EventBus.getInstance().post(new WorldGenerationEvent(position));
+    /** Builds chunk without touching loaded world state */
+    public GeneratedChunk execute() {
+        result = builder.apply(position);
+        return result;
     }
 }
@@ -1,61 +1,272 @@
 package model.world;
 
-import controller.event.EventBus;
-import controller.event.WorldGenerationEvent;
 import org.joml.Vector3f;
+import util.ConcurrentLongHashMap;
+import util.PerformanceMetrics;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Async chunk loading system.
- * Manages worker threads and load queue.
+ * Manages worker threads and load queue. Workers build detached chunks and hand
+ * them back through a lock-free queue, the game thread integrates them into the world.
+ * Queued chunks load nearest and most in view first, and a task is only handed to
+ * a worker once one is idle so late priority changes still apply. Tasks are dispatched
+ * when queued and when a worker finishes, no thread waits on the queue. Each chunk
+ * is requested at most once until its result is taken or the request is cancelled.
  */
 public class ChunkLoader {
+    /**
+     * How load tasks are run.
+     */
+    public enum ExecutionMode {
+        /** Fixed pool of platform threads */
+        POOLED,
+        /** One virtual thread per task, run beyond the core count so tasks blocked on disk I/O overlap */
+        VIRTUAL;
+
+        /**
+         * Parses mode name, falling back to pooled for unknown names.
+         */
+        public static ExecutionMode parse(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase());
+            } catch (IllegalArgumentException | NullPointerException e) {
+                System.err.println("Invalid CHUNK_LOADER_MODE " + name + ", using " + POOLED);
+                return POOLED;
+            }
+        }
+    }
+
     /** Thread components */
+    private final ExecutionMode mode;
     private final ExecutorService executorService;
-    private final LinkedBlockingQueue<ChunkLoadTask> chunkLoadQueue;
+    private final Semaphore idleWorkers;
     private volatile boolean isRunning;
 
+    /** Waiting tasks by priority, guarded by queueLock */
+    private final PriorityQueue<ChunkLoadTask> chunkLoadQueue =
+        new PriorityQueue<>(Comparator.comparingDouble(ChunkLoadTask::getPriority));
+    private final ReentrantLock queueLock = new ReentrantLock();
+
+    /** Player chunk and view direction tasks are prioritized against, guarded by queueLock */
+    private final Vector3f focusChunk = new Vector3f();
+    private final Vector3f viewDirection = new Vector3f(0, 0, -1);
+
+    /** Builds chunks on worker threads */
+    private final Function<Vector3f, GeneratedChunk> builder;
+    private final int maxPendingChunks;
 
-    /** Initializes thread pool and queue */
-    public ChunkLoader(int threadCount) {
-        executorService = Executors.newFixedThreadPool(threadCount);
-        chunkLoadQueue = new LinkedBlockingQueue<>();
+    /** Finished tasks waiting for the game thread */
+    private final ConcurrentLinkedQueue<ChunkLoadTask> completedTasks = new ConcurrentLinkedQueue<>();
+
+    /** Requests queued or being built by packed chunk coordinates, until their result is polled */
+    private final ConcurrentLongHashMap<ChunkLoadTask> inFlight = new ConcurrentLongHashMap<>();
+
+
+    /**
+     * Initializes workers and queue.
+     *
+     * @param mode How tasks are run
+     * @param concurrency Number of tasks built at the same time
+     * @param maxPendingChunks Cap on chunks queued, building or awaiting integration
+     * @param builder Builds a detached chunk for chunk coordinates
+     */
+    public ChunkLoader(ExecutionMode mode, int concurrency, int maxPendingChunks,
+                       Function<Vector3f, GeneratedChunk> builder) {
+        this.mode = mode;
+        this.builder = builder;
+        this.maxPendingChunks = Math.max(1, maxPendingChunks);
+        executorService = mode == ExecutionMode.VIRTUAL
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(concurrency);
+        idleWorkers = new Semaphore(concurrency);
         isRunning = true;
-        startProcessingQueue();
     }
 
-    /** Starts async queue processing */
-    private void startProcessingQueue() {
-        Thread queueProcessor = new Thread(() -> {
-            while (isRunning || !chunkLoadQueue.isEmpty()) {
-                try {
-                    ChunkLoadTask task = chunkLoadQueue.poll(100, TimeUnit.MILLISECONDS);
-                    if (task != null) {
-                        executorService.submit(task::execute);
-                    }
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
+    /** Gets how tasks are run */
+    public ExecutionMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Hands highest priority tasks to the executor while workers are idle.
+     */
+    private void dispatch() {
+        while (isRunning && idleWorkers.tryAcquire()) {
+            ChunkLoadTask task = pollQueue();
+            if (task == null) {
+                idleWorkers.release();
+                // A task queued while the permit was held found no idle worker
+                if (isQueueEmpty()) {
+                    return;
                 }
+                continue;
+            }
+
+            try {
+                executorService.execute(() -> runTask(task));
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                idleWorkers.release();
+                return;
             }
-        });
-        queueProcessor.setDaemon(true);
-        queueProcessor.start();
+        }
+    }
+
+    /** Takes highest priority task, or {@code null} if none is waiting */
+    private ChunkLoadTask pollQueue() {
+        queueLock.lock();
+        try {
+            return chunkLoadQueue.poll();
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    /** Whether no task is waiting */
+    private boolean isQueueEmpty() {
+        queueLock.lock();
+        try {
+            return chunkLoadQueue.isEmpty();
+        } finally {
+            queueLock.unlock();
+        }
     }
 
-    /** Queues chunk for loading */
+    /** Builds chunk, hands it to the game thread and starts the next task */
+    private void runTask(ChunkLoadTask task) {
+        try {
+            task.execute();
+            completedTasks.offer(task);
+        } catch (RuntimeException e) {
+            // Drop the request so the chunk is asked for again
+            inFlight.remove(ChunkRegistry.pack(task.getPosition()));
+            e.printStackTrace();
+        } finally {
+            idleWorkers.release();
+        }
+        dispatch();
+    }
+
+    /**
+     * Queues chunk for loading unless a request for it is in flight.
+     * Requests are dropped while the pending cap is reached, they are made again on later frames.
+     */
     public void queueChunkLoad(Vector3f position) {
-        EventBus.getInstance().post(new WorldGenerationEvent(position));
-        chunkLoadQueue.offer(new ChunkLoadTask(position));
+        long key = ChunkRegistry.pack(position);
+        if (inFlight.containsKey(key)) {
+            PerformanceMetrics.logDuplicateChunkRequest();
+            return;
+        }
+        if (inFlight.size() >= maxPendingChunks) {
+            return;
+        }
+
+        ChunkLoadTask task = new ChunkLoadTask(position, builder);
+        if (inFlight.putIfAbsent(key, task) != null) {
+            PerformanceMetrics.logDuplicateChunkRequest();
+            return;
+        }
+        PerformanceMetrics.logChunkRequest();
+
+        queueLock.lock();
+        try {
+            task.updatePriority(focusChunk, viewDirection);
+            chunkLoadQueue.offer(task);
+        } finally {
+            queueLock.unlock();
+        }
+        dispatch();
+    }
+
+    /**
+     * Reprioritizes waiting tasks for a new player chunk or view direction.
+     * Tasks for chunks that left the load radius are cancelled before they are built.
+     *
+     * @param playerChunk Player chunk coordinates
+     * @param direction Normalized camera look direction
+     * @param outOfRange Whether a chunk position no longer needs loading
+     */
+    public void updateFocus(Vector3f playerChunk, Vector3f direction, Predicate<Vector3f> outOfRange) {
+        queueLock.lock();
+        try {
+            boolean moved = !focusChunk.equals(playerChunk);
+            boolean turned = viewDirection.dot(direction) < 0.95f;
+            if (!moved && !turned) {
+                return;
+            }
+            focusChunk.set(playerChunk);
+            viewDirection.set(direction);
+
+            List<ChunkLoadTask> tasks = new ArrayList<>(chunkLoadQueue);
+            chunkLoadQueue.clear();
+            for (ChunkLoadTask task : tasks) {
+                if (moved && outOfRange.test(task.getPosition())) {
+                    inFlight.remove(ChunkRegistry.pack(task.getPosition()));
+                    PerformanceMetrics.logCancelledChunkRequest();
+                    continue;
+                }
+                task.updatePriority(focusChunk, viewDirection);
+                chunkLoadQueue.offer(task);
+            }
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    /**
+     * Takes next finished chunk for integration.
+     * Records the time since the chunk was requested as its load latency.
+     *
+     * @return Finished chunk, or {@code null} if none is ready
+     */
+    public GeneratedChunk pollCompleted() {
+        ChunkLoadTask task = completedTasks.poll();
+        if (task == null) {
+            return null;
+        }
+        inFlight.remove(ChunkRegistry.pack(task.getPosition()));
+        PerformanceMetrics.logChunkLoadLatency(System.nanoTime() - task.getQueuedNanos());
+        return task.getResult();
+    }
+
+    /** Whether another request fits under the pending cap */
+    public boolean hasCapacity() {
+        return inFlight.size() < maxPendingChunks;
+    }
+
+    /** Whether a request for chunk position is in flight */
+    public boolean isRequested(Vector3f position) {
+        return inFlight.containsKey(ChunkRegistry.pack(position));
+    }
+
+    /** Gets number of chunks queued, building or waiting for integration */
+    public int getPendingCount() {
+        return inFlight.size();
     }
 
     /** Shuts down executor and queue */
     public void shutdown() {
         isRunning = false;
+        queueLock.lock();
+        try {
+            chunkLoadQueue.clear();
+        } finally {
+            queueLock.unlock();
+        }
         executorService.shutdown();
         try {
             if (!executorService.awaitTermination(2, TimeUnit.SECONDS)) {
@@ -65,5 +276,12 @@ public class ChunkLoader {
             executorService.shutdownNow();
             Thread.currentThread().interrupt();
         }
+
+        // Free chunks that were never integrated
+        for (ChunkLoadTask task; (task = completedTasks.poll()) != null; ) {
+            if (!task.getResult().isEmpty()) {
+                task.getResult().chunk().release();
+            }
+        }
     }
 }
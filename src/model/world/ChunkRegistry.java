@@ -0,0 +1,103 @@
+package model.world;
+
+import org.joml.Vector3f;
+import util.ConcurrentLongHashMap;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Index of loaded chunks keyed by chunk coordinates.
+ * Packs the three coordinates into a single long so lookups are a hash
+ * probe in a primitive open-addressing map instead of a scan over all chunks.
+ * Safe for generator threads and the game thread to use concurrently.
+ *
+ * @see Chunk
+ * @see ConcurrentLongHashMap
+ */
+public class ChunkRegistry implements Iterable<Chunk> {
+    /** Bits reserved per packed coordinate */
+    private static final int COORD_BITS = 21;
+    private static final long COORD_MASK = (1L << COORD_BITS) - 1;
+
+    /** Loaded chunks by packed coordinates */
+    private final ConcurrentLongHashMap<Chunk> chunks = new ConcurrentLongHashMap<>();
+
+
+    /**
+     * Packs chunk coordinates into a single key.
+     * Each coordinate keeps its low 21 bits, covering about a million chunks per axis.
+     */
+    public static long pack(int x, int y, int z) {
+        return ((x & COORD_MASK) << (2 * COORD_BITS)) | ((y & COORD_MASK) << COORD_BITS) | (z & COORD_MASK);
+    }
+
+    /** Packs chunk position vector into a single key */
+    public static long pack(Vector3f chunkPos) {
+        return pack((int) chunkPos.x(), (int) chunkPos.y(), (int) chunkPos.z());
+    }
+
+    /** Gets chunk at chunk coordinates, or {@code null} if not loaded */
+    public Chunk get(int x, int y, int z) {
+        return chunks.get(pack(x, y, z));
+    }
+
+    /** Gets chunk at chunk position, or {@code null} if not loaded */
+    public Chunk get(Vector3f chunkPos) {
+        return chunks.get(pack(chunkPos));
+    }
+
+    /** Whether chunk at chunk coordinates is loaded */
+    public boolean contains(int x, int y, int z) {
+        return chunks.containsKey(pack(x, y, z));
+    }
+
+    /** Whether chunk at chunk position is loaded */
+    public boolean contains(Vector3f chunkPos) {
+        return chunks.containsKey(pack(chunkPos));
+    }
+
+    /** Registers chunk under its position */
+    public void add(Chunk chunk) {
+        chunks.put(pack(chunk.getPosition()), chunk);
+    }
+
+    /**
+     * Registers chunk unless its position is already taken.
+     *
+     * @return Chunk already registered, or {@code null} if chunk was added
+     */
+    public Chunk addIfAbsent(Chunk chunk) {
+        return chunks.putIfAbsent(pack(chunk.getPosition()), chunk);
+    }
+
+    /**
+     * Removes chunk at chunk coordinates.
+     *
+     * @return Removed chunk, or {@code null} if not loaded
+     */
+    public Chunk remove(int x, int y, int z) {
+        return chunks.remove(pack(x, y, z));
+    }
+
+    /**
+     * Removes all chunks matching filter.
+     *
+     * @return Removed chunks
+     */
+    public List<Chunk> removeIf(Predicate<Chunk> filter) {
+        return chunks.removeIf(filter);
+    }
+
+    /** Gets number of loaded chunks */
+    public int size() {
+        return chunks.size();
+    }
+
+    /** Iterates over a snapshot of loaded chunks */
+    @Override
+    public Iterator<Chunk> iterator() {
+        return chunks.values().iterator();
+    }
+}
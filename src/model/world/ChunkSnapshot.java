@@ -0,0 +1,23 @@
+package model.world;
+
+import model.block.PlacedBlock;
+
+import java.util.List;
+
+/**
+ * Immutable view of a chunk for rendering.
+ * Chunks publish a new snapshot after their faces are recomputed, so the
+ * frame path can read it without locks while the chunk keeps changing.
+ *
+ * @param chunkX,chunkY,chunkZ Chunk coordinates
+ * @param blockCount Number of non-air blocks
+ * @param surfaceBlocks Unmodifiable list of blocks with visible faces
+ * @see Chunk
+ */
+public record ChunkSnapshot(int chunkX, int chunkY, int chunkZ, int blockCount, List<PlacedBlock> surfaceBlocks) {
+
+    /** Whether snapshot has anything to render */
+    public boolean isEmpty() {
+        return surfaceBlocks.isEmpty();
+    }
+}
@@ -0,0 +1,246 @@
+package model.world;
+
+import org.joml.Vector3f;
+import util.LongHashMap;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * On-disk store of generated chunks, grouped into region files of square column areas.
+ * Filled ahead of play by the pre-generator so the world reads terrain back instead of
+ * sampling noise. Only generated terrain is stored, player edits live in the world save.
+ * Each entry keeps the deflated voxel bytes of one section; regions recently read are
+ * kept in memory in least recently used order. Reads are thread-safe, a region file is
+ * read by the first thread asking for it while others wait only for that region.
+ *
+ * @see ChunkCache
+ * @see World
+ */
+public class ChunkStore {
+    /** Region edge length in columns, as a power of two */
+    public static final int REGION_SHIFT = 3;
+
+    /** File format marker and version, files of other generation settings are ignored */
+    private static final int MAGIC = 0x56435352;
+    private static final int VERSION = 2;
+
+    /** Regions kept in memory after reading */
+    private static final int MAX_CACHED_REGIONS = 16;
+
+    /** Directory holding the region files */
+    private final File directory;
+
+    /** Generation settings the stored terrain must have been built with */
+    private final NoiseType noiseType;
+    private final CaveSampling caveSampling;
+
+    /** Deflated voxels by packed chunk coordinates, per region in access order, completed once read */
+    private final LinkedHashMap<Long, CompletableFuture<LongHashMap<byte[]>>> regions =
+        new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock regionsLock = new ReentrantLock();
+
+
+    /**
+     * Creates store over directory, which is created on first write.
+     *
+     * @param directory Directory of the region files
+     * @param noiseType Noise algorithm of the world
+     * @param caveSampling Cave sampling mode of the world
+     */
+    public ChunkStore(File directory, NoiseType noiseType, CaveSampling caveSampling) {
+        this.directory = directory;
+        this.noiseType = noiseType;
+        this.caveSampling = caveSampling;
+    }
+
+    /**
+     * Reads voxels of a stored section.
+     *
+     * @param x,y,z Chunk coordinates
+     * @return Voxels encoded like {@link Chunk#exportVoxels()}, or {@code null} if not stored
+     */
+    public byte[] read(int x, int y, int z) {
+        byte[] data = getRegion(x >> REGION_SHIFT, z >> REGION_SHIFT).get(ChunkRegistry.pack(x, y, z));
+        return data != null ? ChunkCache.inflate(data) : null;
+    }
+
+    /**
+     * Writes sections of one region, keeping sections already stored there.
+     * Each region must only be written by one thread at a time.
+     *
+     * @param regionX,regionZ Region coordinates
+     * @param sections Voxels by chunk position, encoded like {@link Chunk#exportVoxels()}
+     * @throws IOException if the region file cannot be written
+     */
+    public void writeRegion(int regionX, int regionZ, Map<Vector3f, byte[]> sections) throws IOException {
+        LongHashMap<byte[]> entries = new LongHashMap<>();
+        Map<Long, int[]> positions = new LinkedHashMap<>();
+        File file = regionFile(regionX, regionZ);
+        if (file.exists()) {
+            readRegionFile(file, entries, positions);
+        }
+        sections.forEach((position, voxels) -> {
+            long key = ChunkRegistry.pack(position);
+            entries.put(key, ChunkCache.deflate(voxels));
+            positions.put(key, new int[] {(int) position.x(), (int) position.y(), (int) position.z()});
+        });
+
+        directory.mkdirs();
+        File temporary = new File(directory, file.getName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(World.CHUNK_SIZE);
+            out.writeUTF(noiseType.name());
+            out.writeUTF(caveSampling.name());
+            out.writeInt(positions.size());
+            for (Map.Entry<Long, int[]> entry : positions.entrySet()) {
+                int[] position = entry.getValue();
+                byte[] data = entries.get(entry.getKey());
+                out.writeInt(position[0]);
+                out.writeInt(position[1]);
+                out.writeInt(position[2]);
+                out.writeInt(data.length);
+                out.write(data);
+            }
+        }
+
+        // Replace in one step so readers never see a half written region
+        if (!temporary.renameTo(file) && !(file.delete() && temporary.renameTo(file))) {
+            throw new IOException("Could not replace region file " + file);
+        }
+        regionsLock.lock();
+        try {
+            regions.remove(regionKey(regionX, regionZ));
+        } finally {
+            regionsLock.unlock();
+        }
+    }
+
+    /** Drops regions kept in memory */
+    public void clear() {
+        regionsLock.lock();
+        try {
+            regions.clear();
+        } finally {
+            regionsLock.unlock();
+        }
+    }
+
+    /**
+     * Gets region from memory or disk.
+     * The lock only guards the map; the file is read outside it by the thread that
+     * registered the region, and other readers of that region wait for its future.
+     */
+    private LongHashMap<byte[]> getRegion(int regionX, int regionZ) {
+        long key = regionKey(regionX, regionZ);
+        CompletableFuture<LongHashMap<byte[]>> region;
+        boolean owner = false;
+
+        regionsLock.lock();
+        try {
+            region = regions.get(key);
+            if (region == null) {
+                region = new CompletableFuture<>();
+                regions.put(key, region);
+                owner = true;
+
+                Iterator<CompletableFuture<LongHashMap<byte[]>>> oldest = regions.values().iterator();
+                while (regions.size() > MAX_CACHED_REGIONS) {
+                    oldest.next();
+                    oldest.remove();
+                }
+            }
+        } finally {
+            regionsLock.unlock();
+        }
+
+        if (owner) {
+            try {
+                region.complete(loadRegion(regionX, regionZ));
+            } catch (RuntimeException e) {
+                region.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return region.join();
+    }
+
+    /**
+     * Reads region from disk, missing or unreadable files give an empty region
+     */
+    private LongHashMap<byte[]> loadRegion(int regionX, int regionZ) {
+        LongHashMap<byte[]> region = new LongHashMap<>();
+        File file = regionFile(regionX, regionZ);
+        if (file.exists()) {
+            try {
+                readRegionFile(file, region, null);
+            } catch (IOException e) {
+                System.err.println("Ignoring unreadable region file " + file + ": " + e.getMessage());
+                region.clear();
+            }
+        }
+        return region;
+    }
+
+    /**
+     * Reads entries of a region file written with the store's generation settings.
+     * Files of another chunk size, noise type or cave sampling mode read as empty.
+     *
+     * @param positions Receives chunk coordinates by key, or {@code null} if not needed
+     */
+    private void readRegionFile(File file, LongHashMap<byte[]> entries, Map<Long, int[]> positions)
+            throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a region file");
+            }
+            if (in.readInt() != World.CHUNK_SIZE
+                    || !in.readUTF().equals(noiseType.name())
+                    || !in.readUTF().equals(caveSampling.name())) {
+                return;
+            }
+
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                int x = in.readInt();
+                int y = in.readInt();
+                int z = in.readInt();
+                byte[] data = new byte[in.readInt()];
+                in.readFully(data);
+
+                long key = ChunkRegistry.pack(x, y, z);
+                entries.put(key, data);
+                if (positions != null) {
+                    positions.put(key, new int[] {x, y, z});
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets file of region
+     */
+    private File regionFile(int regionX, int regionZ) {
+        return new File(directory, "r." + regionX + "." + regionZ + ".dat");
+    }
+
+    /**
+     * Packs region coordinates into map key
+     */
+    private static long regionKey(int regionX, int regionZ) {
+        return ChunkRegistry.pack(regionX, 0, regionZ);
+    }
+}
@@ -80,6 +80,14 @@ public class Frustum {
         }
     }
 
+    /**
+     * Gets normalized camera look direction, the inward normal of the near plane
+     * @param dest Vector to store the direction in
+     */
+    public Vector3f getViewDirection(Vector3f dest) {
+        return dest.set(planes[NEAR].normal);
+    }
+
     /**
      * Checks if a cube is inside the frustum
      * @param x Center x coordinate
@@ -0,0 +1,17 @@
+package model.world;
+
+import org.joml.Vector3f;
+
+/**
+ * Result of building a chunk section off the game thread.
+ * The chunk is detached, it is not registered in the world until integrated.
+ *
+ * @param position Chunk coordinates of the section
+ * @param chunk Built chunk, or {@code null} for a section without blocks
+ */
+public record GeneratedChunk(Vector3f position, Chunk chunk) {
+    /** Whether the section needs no allocated chunk */
+    public boolean isEmpty() {
+        return chunk == null;
+    }
+}
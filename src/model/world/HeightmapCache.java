@@ -0,0 +1,110 @@
+package model.world;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded cache of generated column heightmaps grouped into square regions.
+ * Terrain heights depend only on X/Z, so they outlive the columns that use them:
+ * a column unloaded and loaded again reads its heights back instead of sampling
+ * 2D noise again. Whole regions are evicted in least recently used order.
+ * Thread-safe, heights of a missing column are generated outside the lock.
+ *
+ * @see ChunkColumn
+ * @see World
+ */
+public class HeightmapCache {
+    /** Region edge length in columns, as a power of two */
+    private static final int REGION_SHIFT = 3;
+    private static final int REGION_SIZE = 1 << REGION_SHIFT;
+    private static final int REGION_MASK = REGION_SIZE - 1;
+
+    /** Regions by packed region coordinates, in access order */
+    private final LinkedHashMap<Long, AtomicReferenceArray<int[]>> regions = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxRegions;
+    private final HeightSource source;
+
+
+    /**
+     * Generates terrain heights of a single column.
+     */
+    @FunctionalInterface
+    public interface HeightSource {
+        /**
+         * @param chunkX,chunkZ Column coordinates in chunk units
+         * @return Heights indexed localZ * CHUNK_SIZE + localX
+         */
+        int[] generate(int chunkX, int chunkZ);
+    }
+
+    /**
+     * Creates cache bounded by region count.
+     *
+     * @param maxRegions Regions kept before the oldest is evicted, 0 disables the cache
+     * @param source Generates heights of columns not cached
+     */
+    public HeightmapCache(int maxRegions, HeightSource source) {
+        this.maxRegions = maxRegions;
+        this.source = source;
+    }
+
+    /**
+     * Gets terrain heights of a column, generating them on first use.
+     * The returned array is shared and must not be modified.
+     *
+     * @param chunkX,chunkZ Column coordinates in chunk units
+     */
+    public int[] get(int chunkX, int chunkZ) {
+        if (maxRegions <= 0) {
+            return source.generate(chunkX, chunkZ);
+        }
+
+        AtomicReferenceArray<int[]> region = getOrCreateRegion(chunkX >> REGION_SHIFT, chunkZ >> REGION_SHIFT);
+        int slot = ((chunkZ & REGION_MASK) << REGION_SHIFT) | (chunkX & REGION_MASK);
+        int[] heights = region.get(slot);
+        if (heights == null) {
+            // Racing threads generate identical heights, the first one stored is kept
+            heights = source.generate(chunkX, chunkZ);
+            if (!region.compareAndSet(slot, null, heights)) {
+                heights = region.get(slot);
+            }
+        }
+        return heights;
+    }
+
+    /** Gets number of cached regions */
+    public int size() {
+        synchronized (regions) {
+            return regions.size();
+        }
+    }
+
+    /** Drops all cached heights */
+    public void clear() {
+        synchronized (regions) {
+            regions.clear();
+        }
+    }
+
+    /**
+     * Gets region at region coordinates, evicting the oldest one when full
+     */
+    private AtomicReferenceArray<int[]> getOrCreateRegion(int regionX, int regionZ) {
+        long key = ChunkRegistry.pack(regionX, 0, regionZ);
+        synchronized (regions) {
+            AtomicReferenceArray<int[]> region = regions.get(key);
+            if (region == null) {
+                region = new AtomicReferenceArray<>(REGION_SIZE * REGION_SIZE);
+                regions.put(key, region);
+
+                Iterator<AtomicReferenceArray<int[]>> oldest = regions.values().iterator();
+                while (regions.size() > maxRegions) {
+                    oldest.next();
+                    oldest.remove();
+                }
+            }
+            return region;
+        }
+    }
+}
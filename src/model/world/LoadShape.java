@@ -0,0 +1,77 @@
+package model.world;
+
+/**
+ * Shape of the area of chunks kept loaded around the player.
+ * Horizontal and vertical radii are given separately in chunks, so the
+ * area can reach far to the sides while staying shallow above and below.
+ */
+public enum LoadShape {
+    /** Box, the same reach in every horizontal direction along the axes */
+    CUBE {
+        @Override
+        public int verticalExtent(int dx, int dz, int horizontal, int vertical) {
+            return Math.abs(dx) <= horizontal && Math.abs(dz) <= horizontal ? vertical : -1;
+        }
+    },
+
+    /** Upright cylinder, drops the corner columns of the box */
+    CYLINDER {
+        @Override
+        public int verticalExtent(int dx, int dz, int horizontal, int vertical) {
+            return isInsideDisc(dx, dz, horizontal) ? vertical : -1;
+        }
+    },
+
+    /** Ellipsoid, columns get shorter towards the edge */
+    SPHERE {
+        @Override
+        public int verticalExtent(int dx, int dz, int horizontal, int vertical) {
+            if (!isInsideDisc(dx, dz, horizontal)) {
+                return -1;
+            }
+            double edge = (double) (dx * dx + dz * dz) / discRadiusSquared(horizontal);
+            return (int) Math.round(vertical * Math.sqrt(1 - edge));
+        }
+    };
+
+    /**
+     * Gets how far a column of the area reaches up and down.
+     *
+     * @param dx,dz Column offset from the center in chunks
+     * @param horizontal Horizontal radius in chunks
+     * @param vertical Vertical radius in chunks
+     * @return Largest vertical offset in the area, or -1 if the column is outside
+     */
+    public abstract int verticalExtent(int dx, int dz, int horizontal, int vertical);
+
+    /**
+     * Checks if offset from the center lies in the area.
+     */
+    public boolean contains(int dx, int dy, int dz, int horizontal, int vertical) {
+        int extent = verticalExtent(dx, dz, horizontal, vertical);
+        return extent >= 0 && Math.abs(dy) <= extent;
+    }
+
+    /**
+     * Parses shape name, falling back to cube for unknown names.
+     */
+    public static LoadShape parse(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            System.err.println("Invalid LOAD_SHAPE " + name + ", using " + CUBE);
+            return CUBE;
+        }
+    }
+
+    /**
+     * Whether column lies in the rounded disc of radius, which keeps the axis-aligned edge columns.
+     */
+    private static boolean isInsideDisc(int dx, int dz, int radius) {
+        return dx * dx + dz * dz <= discRadiusSquared(radius);
+    }
+
+    private static int discRadiusSquared(int radius) {
+        return radius * (radius + 1);
+    }
+}
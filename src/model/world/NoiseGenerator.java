@@ -0,0 +1,61 @@
+package model.world;
+
+/**
+ * Source of coherent noise for terrain generation.
+ * Implementations are immutable after construction and safe to share between
+ * generator threads. The same seed must always produce the same values.
+ *
+ * @see NoiseType
+ * @see World
+ */
+public interface NoiseGenerator {
+    /**
+     * Generates 2D noise for terrain height maps
+     * @return Noise value between -1 and 1
+     */
+    double noise(double x, double z);
+
+    /**
+     * Generates 3D noise for caves and features
+     * @return Noise value between -1 and 1
+     */
+    double noise3D(double x, double y, double z);
+
+    /**
+     * Fills grid with 2D noise sampled at integer coordinates divided by scale.
+     * Every sample equals {@code noise((startX + x) / scale, (startZ + z) / scale)}.
+     *
+     * @param startX,startZ Coordinates of the first sample before scaling
+     * @param sizeX,sizeZ Number of samples along each axis
+     * @param scale Divisor applied to sample coordinates
+     * @param dest Receives samples indexed z * sizeX + x
+     */
+    default void fillNoise(int startX, int startZ, int sizeX, int sizeZ, double scale, double[] dest) {
+        for (int z = 0; z < sizeZ; z++) {
+            for (int x = 0; x < sizeX; x++) {
+                dest[z * sizeX + x] = noise((startX + x) / scale, (startZ + z) / scale);
+            }
+        }
+    }
+
+    /**
+     * Fills grid with 3D noise sampled at integer coordinates divided by scale.
+     * Every sample equals the scalar {@link #noise3D} at the same coordinates.
+     *
+     * @param startX,startY,startZ Coordinates of the first sample before scaling
+     * @param sizeX,sizeY,sizeZ Number of samples along each axis
+     * @param scale Divisor applied to sample coordinates
+     * @param dest Receives samples indexed (y * sizeZ + z) * sizeX + x
+     */
+    default void fillNoise3D(int startX, int startY, int startZ, int sizeX, int sizeY, int sizeZ,
+                             double scale, double[] dest) {
+        for (int y = 0; y < sizeY; y++) {
+            for (int z = 0; z < sizeZ; z++) {
+                for (int x = 0; x < sizeX; x++) {
+                    dest[(y * sizeZ + z) * sizeX + x] =
+                        noise3D((startX + x) / scale, (startY + y) / scale, (startZ + z) / scale);
+                }
+            }
+        }
+    }
+}
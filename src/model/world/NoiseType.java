@@ -0,0 +1,71 @@
+package model.world;
+
+/**
+ * Noise algorithm a world is generated with.
+ * Chosen when the world is created and stored with its metadata, since the
+ * same seed gives different terrain under each algorithm.
+ */
+public enum NoiseType {
+    /** Improved Perlin noise in double precision, used by all worlds created before the choice existed */
+    PERLIN("Perlin", 0.3) {
+        @Override
+        public NoiseGenerator create(long seed) {
+            return new PerlinNoiseGenerator(seed);
+        }
+    },
+
+    /** Simplex lattice noise in float precision, cheaper per sample */
+    SIMPLEX("OpenSimplex", 0.5) {
+        @Override
+        public NoiseGenerator create(long seed) {
+            return new SimplexNoiseGenerator(seed);
+        }
+    };
+
+    /** Name shown in menus */
+    private final String displayName;
+
+    /** How far 3D noise rises above the highest corner of a cave lattice cell, measured with slack */
+    private final double latticeMargin;
+
+    NoiseType(String displayName, double latticeMargin) {
+        this.displayName = displayName;
+        this.latticeMargin = latticeMargin;
+    }
+
+    /**
+     * Creates generator of this type.
+     *
+     * @param seed Controls the randomization pattern
+     */
+    public abstract NoiseGenerator create(long seed);
+
+    /**
+     * Gets bound on how far exact cave noise exceeds the highest lattice sample of a
+     * {@link CaveSampling#LATTICE_SHIFT} cell around it. Worst cases measured over
+     * 20000 chunks were 0.20 for Perlin and 0.37 for OpenSimplex noise.
+     */
+    public double getLatticeMargin() {
+        return latticeMargin;
+    }
+
+    /**
+     * Parses noise type by name, worlds saved without one use Perlin noise.
+     */
+    public static NoiseType parse(String name) {
+        if (name == null) {
+            return PERLIN;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid noise type " + name + ", using " + PERLIN);
+            return PERLIN;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,194 @@
+package model.world;
+
+import model.block.BlockType;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Block type storage kept outside the Java heap.
+ * Stores one byte per voxel in a segment taken from a pool of native slabs, so
+ * the garbage collector never scans or copies voxel data. {@link #release()}
+ * hands the segment back to the pool for the next chunk instead of freeing it,
+ * which avoids closing an arena per unloaded chunk.
+ *
+ * @see BlockStorage
+ * @see Chunk
+ */
+public class OffHeapBlockStorage implements BlockStorage {
+    /** Block types by stored byte, 0 stands for air */
+    private static final BlockType[] TYPES = BlockType.values();
+
+    /** Segment pools by voxel count */
+    private static final Map<Integer, SegmentPool> POOLS = new ConcurrentHashMap<>();
+
+    /** Number of voxels held */
+    private final int size;
+
+    /** Pool the segment came from and goes back to */
+    private final SegmentPool pool;
+
+    /** Native memory, null once released */
+    private volatile MemorySegment voxels;
+
+    /** Number of non-air voxels */
+    private int blockCount;
+
+    /** Whether every voxel holds the same value, set by fill and cleared by the next change */
+    private boolean uniform = true;
+
+
+    /**
+     * Allocates storage with every voxel set to air.
+     *
+     * @param size Number of voxels
+     */
+    public OffHeapBlockStorage(int size) {
+        this.size = size;
+        this.pool = POOLS.computeIfAbsent(size, SegmentPool::new);
+        this.voxels = pool.acquire();
+        this.voxels.fill((byte) 0);
+    }
+
+    @Override
+    public BlockType get(int index) {
+        // Pooled memory stays mapped, so a read racing release sees stale data the caller's validation rejects
+        MemorySegment segment = voxels;
+        if (segment == null) {
+            return null;
+        }
+        int value = segment.get(ValueLayout.JAVA_BYTE, index);
+        return value == 0 ? null : TYPES[value - 1];
+    }
+
+    @Override
+    public void set(int index, BlockType type) {
+        MemorySegment segment = requireSegment();
+        int oldValue = segment.get(ValueLayout.JAVA_BYTE, index);
+        int value = type == null ? 0 : type.ordinal() + 1;
+        if (oldValue == value) {
+            return;
+        }
+
+        segment.set(ValueLayout.JAVA_BYTE, index, (byte) value);
+        uniform = false;
+        if (oldValue == 0) blockCount++;
+        if (value == 0) blockCount--;
+    }
+
+    @Override
+    public void fill(BlockType type) {
+        requireSegment().fill(type == null ? 0 : (byte) (type.ordinal() + 1));
+        blockCount = type == null ? 0 : size;
+        uniform = true;
+    }
+
+    @Override
+    public boolean isUniform() {
+        return uniform;
+    }
+
+    @Override
+    public int getBlockCount() {
+        return blockCount;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void release() {
+        MemorySegment segment = voxels;
+        if (segment != null) {
+            voxels = null;
+            blockCount = 0;
+            uniform = true;
+            pool.free(segment);
+        }
+    }
+
+    /** Gets bytes of native memory reserved by all pools, free segments included */
+    public static long getReservedNativeBytes() {
+        long bytes = 0;
+        for (SegmentPool pool : POOLS.values()) {
+            bytes += pool.reservedBytes.get();
+        }
+        return bytes;
+    }
+
+    /** Gets bytes of native memory held by live storages */
+    public static long getUsedNativeBytes() {
+        long bytes = 0;
+        for (SegmentPool pool : POOLS.values()) {
+            bytes += pool.usedBytes.get();
+        }
+        return bytes;
+    }
+
+    /**
+     * Gets segment of live storage, writes after release are a caller bug.
+     */
+    private MemorySegment requireSegment() {
+        MemorySegment segment = voxels;
+        if (segment == null) {
+            throw new IllegalStateException("Storage already released");
+        }
+        return segment;
+    }
+
+    /**
+     * Free list of equally sized segments cut from slabs of the global arena.
+     * Slabs are never freed, so the pool grows to the peak number of loaded chunks.
+     */
+    private static class SegmentPool {
+        /** Segments cut from each slab */
+        private static final int SEGMENTS_PER_SLAB = 64;
+
+        private final int segmentBytes;
+        private final Queue<MemorySegment> free = new ConcurrentLinkedQueue<>();
+        private final AtomicLong reservedBytes = new AtomicLong();
+        private final AtomicLong usedBytes = new AtomicLong();
+
+        SegmentPool(int segmentBytes) {
+            this.segmentBytes = segmentBytes;
+        }
+
+        /** Takes a free segment, cutting a new slab when none is left */
+        MemorySegment acquire() {
+            MemorySegment segment = free.poll();
+            while (segment == null) {
+                allocateSlab();
+                segment = free.poll();
+            }
+            usedBytes.addAndGet(segmentBytes);
+            return segment;
+        }
+
+        /** Returns a segment for reuse */
+        void free(MemorySegment segment) {
+            usedBytes.addAndGet(-segmentBytes);
+            free.offer(segment);
+        }
+
+        /** Allocates one slab and adds its segments to the free list */
+        private synchronized void allocateSlab() {
+            if (!free.isEmpty()) {
+                return;  // Another thread refilled the list meanwhile
+            }
+            long slabBytes = (long) segmentBytes * SEGMENTS_PER_SLAB;
+            MemorySegment slab = Arena.global().allocate(slabBytes, 8);
+            reservedBytes.addAndGet(slabBytes);
+            for (int i = 0; i < SEGMENTS_PER_SLAB; i++) {
+                free.offer(slab.asSlice((long) i * segmentBytes, segmentBytes));
+            }
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package model.world;
+
+import model.block.BlockType;
+
+import java.util.Arrays;
+
+/**
+ * Dense block type storage for a fixed number of voxels.
+ * Stores a small palette of block types plus a bit-packed index array whose
+ * entry width grows with the palette. A single-entry palette needs no index
+ * array at all, so empty chunks cost only a few bytes.
+ *
+ * @see BlockStorage
+ * @see Chunk
+ */
+public class PalettedBlockStorage implements BlockStorage {
+    /** Number of voxels held */
+    private final int size;
+
+    /** Palette of block types, {@code null} stands for air */
+    private BlockType[] palette;
+    private int paletteSize;
+
+    /** Bit-packed palette indices, {@code null} while the palette has one entry */
+    private long[] data;
+    private int bitsPerEntry;
+    private int entriesPerLong;
+    private long entryMask;
+
+    /** Number of non-air voxels */
+    private int blockCount;
+
+
+    /**
+     * Creates storage with every voxel set to air.
+     *
+     * @param size Number of voxels
+     */
+    public PalettedBlockStorage(int size) {
+        this.size = size;
+        this.palette = new BlockType[1];
+        this.paletteSize = 1;
+        this.bitsPerEntry = 0;
+        this.blockCount = 0;
+    }
+
+    /**
+     * Gets block type at voxel index.
+     * A concurrent writer can make the result stale but never makes this fail.
+     *
+     * @param index Voxel index
+     * @return Block type, or {@code null} for air
+     */
+    @Override
+    public BlockType get(int index) {
+        // Read fields once, a concurrent resize may be observed half done
+        BlockType[] palette = this.palette;
+        long[] data = this.data;
+        int bits = this.bitsPerEntry;
+        if (bits == 0 || data == null) {
+            return palette[0];
+        }
+
+        int perLong = 64 / bits;
+        int longIndex = index / perLong;
+        if (longIndex >= data.length) {
+            return null;
+        }
+        int entry = (int) ((data[longIndex] >>> ((index % perLong) * bits)) & ((1L << bits) - 1));
+        return entry < palette.length ? palette[entry] : null;
+    }
+
+    /**
+     * Sets block type at voxel index, growing the palette if needed.
+     *
+     * @param index Voxel index
+     * @param type Block type, or {@code null} for air
+     */
+    @Override
+    public void set(int index, BlockType type) {
+        int oldEntry = readEntry(index);
+        BlockType oldType = palette[oldEntry];
+        if (oldType == type) {
+            return;
+        }
+
+        int entry = getOrAddEntry(type);
+        writeEntry(index, entry);
+
+        if (oldType == null) blockCount++;
+        if (type == null) blockCount--;
+    }
+
+    /**
+     * Sets every voxel to type, dropping back to a single-entry palette without index array.
+     *
+     * @param type Block type, or {@code null} for air
+     */
+    @Override
+    public void fill(BlockType type) {
+        palette = new BlockType[] {type};
+        paletteSize = 1;
+        data = null;
+        bitsPerEntry = 0;
+        entriesPerLong = 0;
+        entryMask = 0;
+        blockCount = type == null ? 0 : size;
+    }
+
+    /** Whether the palette has a single entry, which then covers every voxel */
+    @Override
+    public boolean isUniform() {
+        return bitsPerEntry == 0;
+    }
+
+    /** Gets number of non-air voxels */
+    @Override
+    public int getBlockCount() {
+        return blockCount;
+    }
+
+    /** Whether every voxel is air */
+    @Override
+    public boolean isEmpty() {
+        return blockCount == 0;
+    }
+
+    /** Gets number of voxels held */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /** Gets current index width in bits */
+    public int getBitsPerEntry() {
+        return bitsPerEntry;
+    }
+
+    /**
+     * Finds palette entry for type, adding it when missing.
+     */
+    private int getOrAddEntry(BlockType type) {
+        for (int i = 0; i < paletteSize; i++) {
+            if (palette[i] == type) {
+                return i;
+            }
+        }
+
+        if (paletteSize == palette.length) {
+            resize(bitsFor(paletteSize + 1));
+        }
+        palette[paletteSize] = type;
+        return paletteSize++;
+    }
+
+    /**
+     * Repacks index array for new entry width.
+     */
+    private void resize(int newBits) {
+        int oldBits = bitsPerEntry;
+        long[] oldData = data;
+        int oldEntriesPerLong = entriesPerLong;
+        long oldMask = entryMask;
+
+        bitsPerEntry = newBits;
+        entriesPerLong = 64 / newBits;
+        entryMask = (1L << newBits) - 1;
+        data = new long[(size + entriesPerLong - 1) / entriesPerLong];
+        palette = Arrays.copyOf(palette, 1 << newBits);
+
+        // Single-entry palette had no data, every index was entry 0
+        if (oldBits == 0) {
+            return;
+        }
+
+        for (int i = 0; i < size; i++) {
+            int shift = (i % oldEntriesPerLong) * oldBits;
+            int entry = (int) ((oldData[i / oldEntriesPerLong] >>> shift) & oldMask);
+            writeEntry(i, entry);
+        }
+    }
+
+    /**
+     * Reads palette index stored for voxel.
+     */
+    private int readEntry(int index) {
+        if (bitsPerEntry == 0) {
+            return 0;
+        }
+        int shift = (index % entriesPerLong) * bitsPerEntry;
+        return (int) ((data[index / entriesPerLong] >>> shift) & entryMask);
+    }
+
+    /**
+     * Writes palette index for voxel.
+     */
+    private void writeEntry(int index, int entry) {
+        int longIndex = index / entriesPerLong;
+        int shift = (index % entriesPerLong) * bitsPerEntry;
+        data[longIndex] = (data[longIndex] & ~(entryMask << shift)) | ((long) entry << shift);
+    }
+
+    /**
+     * Gets bits needed to address given number of palette entries.
+     */
+    private static int bitsFor(int entries) {
+        return Math.max(1, 32 - Integer.numberOfLeadingZeros(entries - 1));
+    }
+}
@@ -1,12 +1,13 @@
 package model.world;
 
+import java.util.Arrays;
 import java.util.Random;
 
 /**
  * Generates coherent noise for terrain generation using improved Perlin noise algorithm
  * Supports 2D and 3D noise with configurable octaves for natural-looking landscapes
  */
-public class PerlinNoiseGenerator {
+public class PerlinNoiseGenerator implements NoiseGenerator {
     /** Configuration constants for noise generation */
     private static final int OCTAVES = 4;
     private static final double PERSISTENCE = 0.5;
@@ -44,6 +45,7 @@ public class PerlinNoiseGenerator {
      * Generates 2D noise for terrain height maps
      * @return Noise value between -1 and 1
      */
+    @Override
     public double noise(double x, double z) {
         double total = 0;
         double frequency = 1;
@@ -65,6 +67,7 @@ public class PerlinNoiseGenerator {
      * Generates 3D noise for caves and features
      * @return Noise value between -1 and 1
      */
+    @Override
     public double noise3D(double x, double y, double z) {
         double total = 0;
         double frequency = 1;
@@ -82,6 +85,102 @@ public class PerlinNoiseGenerator {
         return total / maxValue;
     }
 
+    /**
+     * Fills grid with 2D noise sampled at integer coordinates divided by scale.
+     * Floors and fade curves are computed once per row and column, every sample
+     * matches {@code noise((startX + x) / scale, (startZ + z) / scale)} bit for bit.
+     *
+     * @param startX,startZ Coordinates of the first sample before scaling
+     * @param sizeX,sizeZ Number of samples along each axis
+     * @param scale Divisor applied to sample coordinates
+     * @param dest Receives samples indexed z * sizeX + x
+     */
+    @Override
+    public void fillNoise(int startX, int startZ, int sizeX, int sizeZ, double scale, double[] dest) {
+        AxisSamples xs = new AxisSamples(sizeX);
+        AxisSamples zs = new AxisSamples(sizeZ);
+        Arrays.fill(dest, 0, sizeX * sizeZ, 0.0);
+        double frequency = 1;
+        double amplitude = 1;
+        double maxValue = 0;
+
+        // Accumulate octave by octave, each sample sees the same operations as the scalar path
+        for (int i = 0; i < OCTAVES; i++) {
+            xs.prepare(startX, scale, frequency);
+            zs.prepare(startZ, scale, frequency);
+            for (int z = 0; z < sizeZ; z++) {
+                int row = z * sizeX;
+                for (int x = 0; x < sizeX; x++) {
+                    int hashA = p[xs.cell[x]];
+                    int hashB = p[xs.cell[x] + 1];
+                    double value = interpolate2D(hashA, hashB, zs.cell[z],
+                        xs.offset[x], zs.offset[z], xs.fade[x], zs.fade[z]);
+                    dest[row + x] += value * amplitude;
+                }
+            }
+            maxValue += amplitude;
+            amplitude *= PERSISTENCE;
+            frequency *= 2;
+        }
+
+        for (int k = 0; k < sizeX * sizeZ; k++) {
+            dest[k] /= maxValue;
+        }
+    }
+
+    /**
+     * Fills grid with 3D noise sampled at integer coordinates divided by scale.
+     * Floors and fade curves are computed once per axis and corner hashes once per
+     * X/Y pair, every sample matches the scalar {@link #noise3D} bit for bit.
+     *
+     * @param startX,startY,startZ Coordinates of the first sample before scaling
+     * @param sizeX,sizeY,sizeZ Number of samples along each axis
+     * @param scale Divisor applied to sample coordinates
+     * @param dest Receives samples indexed (y * sizeZ + z) * sizeX + x
+     */
+    @Override
+    public void fillNoise3D(int startX, int startY, int startZ, int sizeX, int sizeY, int sizeZ,
+                            double scale, double[] dest) {
+        AxisSamples xs = new AxisSamples(sizeX);
+        AxisSamples ys = new AxisSamples(sizeY);
+        AxisSamples zs = new AxisSamples(sizeZ);
+        int count = sizeX * sizeY * sizeZ;
+        Arrays.fill(dest, 0, count, 0.0);
+        double frequency = 1;
+        double amplitude = 1;
+        double maxValue = 0;
+
+        for (int i = 0; i < OCTAVES; i++) {
+            xs.prepare(startX, scale, frequency);
+            ys.prepare(startY, scale, frequency);
+            zs.prepare(startZ, scale, frequency);
+            for (int y = 0; y < sizeY; y++) {
+                int yi = ys.cell[y];
+                for (int x = 0; x < sizeX; x++) {
+                    // Hashes of the four X/Y cube edges are shared by the whole Z row
+                    int a = p[xs.cell[x]] + yi;
+                    int b = p[xs.cell[x] + 1] + yi;
+                    int aa = p[a];
+                    int ab = p[a + 1];
+                    int ba = p[b];
+                    int bb = p[b + 1];
+                    for (int z = 0; z < sizeZ; z++) {
+                        double value = interpolate3D(aa, ab, ba, bb, zs.cell[z],
+                            xs.offset[x], ys.offset[y], zs.offset[z], xs.fade[x], ys.fade[y], zs.fade[z]);
+                        dest[(y * sizeZ + z) * sizeX + x] += value * amplitude;
+                    }
+                }
+            }
+            maxValue += amplitude;
+            amplitude *= PERSISTENCE;
+            frequency *= 2;
+        }
+
+        for (int k = 0; k < count; k++) {
+            dest[k] /= maxValue;
+        }
+    }
+
     /**
      * Generates single octave of 2D noise
      */
@@ -94,21 +193,7 @@ public class PerlinNoiseGenerator {
         double xf = x - Math.floor(x);
         double zf = z - Math.floor(z);
 
-        // Compute fade curves
-        double u = fade(xf);
-        double v = fade(zf);
-
-        // Hash coordinates of cube corners
-        int aa = p[p[xi] + zi];
-        int ab = p[p[xi] + zi + 1];
-        int ba = p[p[xi + 1] + zi];
-        int bb = p[p[xi + 1] + zi + 1];
-
-        // Interpolate between corner gradients
-        double x1 = lerp(grad(aa, xf, 0, zf), grad(ba, xf - 1, 0, zf), u);
-        double x2 = lerp(grad(ab, xf, 0, zf - 1), grad(bb, xf - 1, 0, zf - 1), u);
-
-        return lerp(x1, x2, v);
+        return interpolate2D(p[xi], p[xi + 1], zi, xf, zf, fade(xf), fade(zf));
     }
 
     /**
@@ -125,20 +210,54 @@ public class PerlinNoiseGenerator {
         double yf = y - Math.floor(y);
         double zf = z - Math.floor(z);
 
-        // Compute fade curves
-        double u = fade(xf);
-        double v = fade(yf);
-        double w = fade(zf);
+        // Hash X/Y cube edges
+        int a = p[xi] + yi;
+        int b = p[xi + 1] + yi;
+
+        return interpolate3D(p[a], p[a + 1], p[b], p[b + 1], zi, xf, yf, zf, fade(xf), fade(yf), fade(zf));
+    }
+
+    /**
+     * Interpolates corner gradients of a 2D cell.
+     *
+     * @param hashA,hashB Permutation of the cell's lower and upper X edge
+     * @param zi Cell Z coordinate wrapped to the table
+     * @param xf,zf Position in cell
+     * @param u,v Fade curves of position
+     */
+    private double interpolate2D(int hashA, int hashB, int zi, double xf, double zf, double u, double v) {
+        // Hash coordinates of cube corners
+        int aa = p[hashA + zi];
+        int ab = p[hashA + zi + 1];
+        int ba = p[hashB + zi];
+        int bb = p[hashB + zi + 1];
+
+        // Interpolate between corner gradients
+        double x1 = lerp(grad(aa, xf, 0, zf), grad(ba, xf - 1, 0, zf), u);
+        double x2 = lerp(grad(ab, xf, 0, zf - 1), grad(bb, xf - 1, 0, zf - 1), u);
+
+        return lerp(x1, x2, v);
+    }
 
+    /**
+     * Interpolates corner gradients of a 3D cell.
+     *
+     * @param aa,ab,ba,bb Permutation of the cell's four X/Y edges
+     * @param zi Cell Z coordinate wrapped to the table
+     * @param xf,yf,zf Position in cell
+     * @param u,v,w Fade curves of position
+     */
+    private double interpolate3D(int aa, int ab, int ba, int bb, int zi,
+                                 double xf, double yf, double zf, double u, double v, double w) {
         // Hash coordinates of cube corners
-        int aaa = p[p[p[xi] + yi] + zi];
-        int aba = p[p[p[xi] + yi + 1] + zi];
-        int aab = p[p[p[xi] + yi] + zi + 1];
-        int abb = p[p[p[xi] + yi + 1] + zi + 1];
-        int baa = p[p[p[xi + 1] + yi] + zi];
-        int bba = p[p[p[xi + 1] + yi + 1] + zi];
-        int bab = p[p[p[xi + 1] + yi] + zi + 1];
-        int bbb = p[p[p[xi + 1] + yi + 1] + zi + 1];
+        int aaa = p[aa + zi];
+        int aba = p[ab + zi];
+        int aab = p[aa + zi + 1];
+        int abb = p[ab + zi + 1];
+        int baa = p[ba + zi];
+        int bba = p[bb + zi];
+        int bab = p[ba + zi + 1];
+        int bbb = p[bb + zi + 1];
 
         // Interpolate between corner gradients
         double x1 = lerp(
@@ -179,4 +298,32 @@ public class PerlinNoiseGenerator {
         double v = h < 4 ? y : h == 12 || h == 14 ? x : z;
         return ((h & 1) == 0 ? u : -u) + ((h & 2) == 0 ? v : -v);
     }
-}
\ No newline at end of file
+
+    /**
+     * Per-axis sample positions of one octave, shared by every row of a grid.
+     */
+    private final class AxisSamples {
+        private final int[] cell;
+        private final double[] offset;
+        private final double[] fade;
+
+        AxisSamples(int size) {
+            cell = new int[size];
+            offset = new double[size];
+            fade = new double[size];
+        }
+
+        /**
+         * Computes cell, position in cell and fade curve for each sample along the axis
+         */
+        void prepare(int start, double scale, double frequency) {
+            for (int i = 0; i < cell.length; i++) {
+                double coordinate = (start + i) / scale * frequency;
+                double floor = Math.floor(coordinate);
+                cell[i] = (int) floor & 255;
+                offset[i] = coordinate - floor;
+                fade[i] = fade(offset[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package model.world;
+
+/**
+ * Generates coherent noise on a simplex lattice in float precision, in the style of OpenSimplex2.
+ * A 2D sample blends three lattice corners and a 3D sample four, against four and eight
+ * for Perlin noise. Cells are found with integer casts instead of {@code Math.floor} on
+ * doubles, and gradients are picked by hashing corner coordinates with the seed.
+ *
+ * @see PerlinNoiseGenerator
+ */
+public class SimplexNoiseGenerator implements NoiseGenerator {
+    /** Configuration constants for noise generation, same layering as Perlin noise */
+    private static final int OCTAVES = 4;
+    private static final float PERSISTENCE = 0.5f;
+
+    /** Skew to the simplex lattice and back */
+    private static final float SKEW_2D = 0.36602540f;    // (sqrt(3) - 1) / 2
+    private static final float UNSKEW_2D = 0.21132487f;  // (3 - sqrt(3)) / 6
+    private static final float SKEW_3D = 1f / 3f;
+    private static final float UNSKEW_3D = 1f / 6f;
+
+    /** Squared radius of corner influence and scale bringing the sum to about -1..1 */
+    private static final float RADIUS_2D = 0.5f;
+    private static final float RADIUS_3D = 0.6f;
+    private static final float NORMALIZE_2D = 70f;
+    private static final float NORMALIZE_3D = 32f;
+
+    /** Odd constants spreading lattice coordinates over the hash */
+    private static final int PRIME_X = 0x5205402B;
+    private static final int PRIME_Y = 0x598CD327;
+    private static final int PRIME_Z = 0x1BCCF3B9;
+
+    /** Gradients as X/Y/Z triples, cube edge midpoints padded to 16; 2D uses X and Y */
+    private static final float[] GRADIENTS = {
+        1, 1, 0,   -1, 1, 0,   1, -1, 0,   -1, -1, 0,
+        1, 0, 1,   -1, 0, 1,   1, 0, -1,   -1, 0, -1,
+        0, 1, 1,   0, -1, 1,   0, 1, -1,   0, -1, -1,
+        1, 1, 0,   -1, 1, 0,   0, -1, 1,   0, -1, -1
+    };
+
+    /** State for deterministic noise generation */
+    private final int seed;
+
+
+    /**
+     * Creates noise generator with specified seed
+     * @param seed Controls the randomization pattern
+     */
+    public SimplexNoiseGenerator(long seed) {
+        this.seed = (int) (seed ^ (seed >>> 32));
+    }
+
+    @Override
+    public double noise(double x, double z) {
+        float total = 0;
+        float amplitude = 1;
+        float maxValue = 0;
+        double frequency = 1;
+
+        // Each octave hashes with its own seed so lattice points do not line up
+        for (int i = 0; i < OCTAVES; i++) {
+            total += generateNoise(seed + i, (float) (x * frequency), (float) (z * frequency)) * amplitude;
+            maxValue += amplitude;
+            amplitude *= PERSISTENCE;
+            frequency *= 2;
+        }
+
+        return total / maxValue;
+    }
+
+    @Override
+    public double noise3D(double x, double y, double z) {
+        float total = 0;
+        float amplitude = 1;
+        float maxValue = 0;
+        double frequency = 1;
+
+        for (int i = 0; i < OCTAVES; i++) {
+            total += generateNoise3D(seed + i,
+                (float) (x * frequency), (float) (y * frequency), (float) (z * frequency)) * amplitude;
+            maxValue += amplitude;
+            amplitude *= PERSISTENCE;
+            frequency *= 2;
+        }
+
+        return total / maxValue;
+    }
+
+    /**
+     * Generates single octave of 2D noise
+     */
+    private float generateNoise(int seed, float x, float y) {
+        // Find lattice cell in skewed space
+        float skew = (x + y) * SKEW_2D;
+        int i = fastFloor(x + skew);
+        int j = fastFloor(y + skew);
+
+        // Position relative to the cell origin in unskewed space
+        float unskew = (i + j) * UNSKEW_2D;
+        float x0 = x - (i - unskew);
+        float y0 = y - (j - unskew);
+
+        // The middle corner depends on which triangle of the cell holds the point
+        int i1 = x0 > y0 ? 1 : 0;
+        int j1 = 1 - i1;
+
+        float x1 = x0 - i1 + UNSKEW_2D;
+        float y1 = y0 - j1 + UNSKEW_2D;
+        float x2 = x0 - 1 + 2 * UNSKEW_2D;
+        float y2 = y0 - 1 + 2 * UNSKEW_2D;
+
+        int hx = i * PRIME_X;
+        int hy = j * PRIME_Y;
+        float sum = corner2D(hash(seed, hx, hy, 0), x0, y0)
+            + corner2D(hash(seed, hx + i1 * PRIME_X, hy + j1 * PRIME_Y, 0), x1, y1)
+            + corner2D(hash(seed, hx + PRIME_X, hy + PRIME_Y, 0), x2, y2);
+        return NORMALIZE_2D * sum;
+    }
+
+    /**
+     * Generates single octave of 3D noise
+     */
+    private float generateNoise3D(int seed, float x, float y, float z) {
+        // Find lattice cell in skewed space
+        float skew = (x + y + z) * SKEW_3D;
+        int i = fastFloor(x + skew);
+        int j = fastFloor(y + skew);
+        int k = fastFloor(z + skew);
+
+        // Position relative to the cell origin in unskewed space
+        float unskew = (i + j + k) * UNSKEW_3D;
+        float x0 = x - (i - unskew);
+        float y0 = y - (j - unskew);
+        float z0 = z - (k - unskew);
+
+        // Order the offsets to find the tetrahedron holding the point
+        int i1, j1, k1, i2, j2, k2;
+        if (x0 >= y0) {
+            if (y0 >= z0)      { i1 = 1; j1 = 0; k1 = 0; i2 = 1; j2 = 1; k2 = 0; }
+            else if (x0 >= z0) { i1 = 1; j1 = 0; k1 = 0; i2 = 1; j2 = 0; k2 = 1; }
+            else               { i1 = 0; j1 = 0; k1 = 1; i2 = 1; j2 = 0; k2 = 1; }
+        } else {
+            if (y0 < z0)       { i1 = 0; j1 = 0; k1 = 1; i2 = 0; j2 = 1; k2 = 1; }
+            else if (x0 < z0)  { i1 = 0; j1 = 1; k1 = 0; i2 = 0; j2 = 1; k2 = 1; }
+            else               { i1 = 0; j1 = 1; k1 = 0; i2 = 1; j2 = 1; k2 = 0; }
+        }
+
+        int hx = i * PRIME_X;
+        int hy = j * PRIME_Y;
+        int hz = k * PRIME_Z;
+        float sum = corner3D(hash(seed, hx, hy, hz), x0, y0, z0)
+            + corner3D(hash(seed, hx + i1 * PRIME_X, hy + j1 * PRIME_Y, hz + k1 * PRIME_Z),
+                x0 - i1 + UNSKEW_3D, y0 - j1 + UNSKEW_3D, z0 - k1 + UNSKEW_3D)
+            + corner3D(hash(seed, hx + i2 * PRIME_X, hy + j2 * PRIME_Y, hz + k2 * PRIME_Z),
+                x0 - i2 + 2 * UNSKEW_3D, y0 - j2 + 2 * UNSKEW_3D, z0 - k2 + 2 * UNSKEW_3D)
+            + corner3D(hash(seed, hx + PRIME_X, hy + PRIME_Y, hz + PRIME_Z),
+                x0 - 1 + 3 * UNSKEW_3D, y0 - 1 + 3 * UNSKEW_3D, z0 - 1 + 3 * UNSKEW_3D);
+        return NORMALIZE_3D * sum;
+    }
+
+    /**
+     * Computes contribution of one 2D corner, falling off to zero at the influence radius
+     */
+    private static float corner2D(int gradient, float dx, float dy) {
+        // Clamped instead of branched, the sign is unpredictable
+        float falloff = Math.max(0f, RADIUS_2D - dx * dx - dy * dy);
+        falloff *= falloff;
+        return falloff * falloff * (GRADIENTS[gradient] * dx + GRADIENTS[gradient + 1] * dy);
+    }
+
+    /**
+     * Computes contribution of one 3D corner, falling off to zero at the influence radius
+     */
+    private static float corner3D(int gradient, float dx, float dy, float dz) {
+        // Clamped instead of branched, the sign is unpredictable
+        float falloff = Math.max(0f, RADIUS_3D - dx * dx - dy * dy - dz * dz);
+        falloff *= falloff;
+        return falloff * falloff
+            * (GRADIENTS[gradient] * dx + GRADIENTS[gradient + 1] * dy + GRADIENTS[gradient + 2] * dz);
+    }
+
+    /**
+     * Hashes premultiplied corner coordinates to the offset of a gradient triple
+     */
+    private static int hash(int seed, int hx, int hy, int hz) {
+        int h = seed ^ hx ^ hy ^ hz;
+        h *= 0x27D4EB2D;
+        h ^= h >>> 15;
+        return (h & 15) * 3;
+    }
+
+    /**
+     * Rounds down without going through double precision
+     */
+    private static int fastFloor(float value) {
+        int truncated = (int) value;
+        return value < truncated ? truncated - 1 : truncated;
+    }
+}
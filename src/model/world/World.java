@@ -6,49 +6,108 @@ import controller.event.EventListener;
 import model.block.*;
 import org.joml.Matrix4f;
 import org.joml.Vector3f;
+import util.ConcurrentLongHashMap;
 import util.PerformanceMetrics;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * Manages voxel world with dynamic chunk loading and terrain generation
  * Handles block manipulation, terrain features, and rendering optimizations
  */
 public class World implements EventListener {
-    /** Core configuration */
-    public static final int CHUNK_SIZE = 6;
+    /** Core configuration, chunk edge is a power of two so coordinates convert with shifts */
+    public static final int CHUNK_SIZE = validateChunkSize(GameConfig.CHUNK_SIZE);
+    public static final int CHUNK_SHIFT = Integer.numberOfTrailingZeros(CHUNK_SIZE);
+    public static final int CHUNK_MASK = CHUNK_SIZE - 1;
     private final long seed;
     private Vector3f lastKnownPlayerPos;
 
-    /** Storage and synchronization */
-    private final Set<Chunk> chunks = new HashSet<>();
+    /** Player chunk the load shell is centered on, and chunks in it still to load nearest first */
+    private final Vector3f loadCenter;
+    private String loadShapeName;
+    private LoadShape loadShape;
+    private int loadRadius;
+    private int loadHeight;
+    private int unloadMargin;
+    private final List<Vector3f> missingChunks = new LinkedList<>();
+
+    /** Storage, chunks and columns are safe to use from generator threads */
+    private final ChunkRegistry chunks = new ChunkRegistry();
+    private final ConcurrentLongHashMap<ChunkColumn> columns = new ConcurrentLongHashMap<>();
+    private final ChunkCache chunkCache = new ChunkCache(
+        GameConfig.CHUNK_CACHE_MB * 1024L * 1024L, GameConfig.CHUNK_CACHE_COMPRESSED
+    );
+    private final HeightmapCache heightmapCache = new HeightmapCache(
+        GameConfig.HEIGHTMAP_CACHE_REGIONS, this::generateTerrainHeights
+    );
     private final Map<Vector3f, BlockType> modifiedBlocks = new HashMap<>();
-    private final Object chunksLock = new Object();
+    private final Map<Long, Float> breakProgress = new ConcurrentHashMap<>();     // Read by the renderer
+    private final Set<Long> highlightedBlocks = ConcurrentHashMap.newKeySet();
     private static final int UPDATE_INTERVAL_TICKS = 20; // Update blocks every 20 ticks
+    private static final double CAVE_THRESHOLD = 0.7;    // Cave noise above which blocks are carved out
     private int updateCounter = 0;
 
     /** World systems */
     private final ChunkLoader chunkLoader;
-    private final PerlinNoiseGenerator terrainNoise;
-    private final PerlinNoiseGenerator caveNoise;
+    private final NoiseType noiseType;
+    private final ChunkStore chunkStore;
+    private final NoiseGenerator terrainNoise;
+    private final NoiseGenerator caveNoise;
+    private final CaveSampling caveSampling;
     private final Frustum frustum = new Frustum();
-    private final OcclusionCulling occlusionCulling = new OcclusionCulling();
     private final DayNightCycle dayNightCycle = new DayNightCycle();
 
 
     /**
-     * Creates new world instance with given spawn position and seed
+     * Creates new world instance with given spawn position and seed using Perlin noise
      */
     public World(Vector3f initialPosition, long seed) {
+        this(initialPosition, seed, NoiseType.PERLIN);
+    }
+
+    /**
+     * Creates new world instance with given spawn position, seed and noise algorithm,
+     * sampling caves the way configured for new worlds
+     */
+    public World(Vector3f initialPosition, long seed, NoiseType noiseType) {
+        this(initialPosition, seed, noiseType, CaveSampling.parse(GameConfig.CAVE_SAMPLING), null);
+    }
+
+    /**
+     * Creates new world instance reading pre-generated chunks from a store
+     *
+     * @param caveSampling Cave sampling mode the world was created with
+     * @param chunkStore Store of pre-generated chunks, or {@code null} to always generate
+     */
+    public World(Vector3f initialPosition, long seed, NoiseType noiseType, CaveSampling caveSampling,
+                 ChunkStore chunkStore) {
         this.lastKnownPlayerPos = initialPosition;
+        this.loadCenter = calculateChunkCoordinates(initialPosition);
+        captureLoadSettings();
         this.seed = seed;
+        this.noiseType = noiseType;
+        this.caveSampling = caveSampling;
+        this.chunkStore = chunkStore;
 
         // Initialize generation systems
         Random random = new Random(seed);
-        this.terrainNoise = new PerlinNoiseGenerator(random.nextLong());
-        this.caveNoise = new PerlinNoiseGenerator(random.nextLong());
+        this.terrainNoise = noiseType.create(random.nextLong());
+        this.caveNoise = noiseType.create(random.nextLong());
 
         // Setup chunk loading
-        this.chunkLoader = new ChunkLoader(Runtime.getRuntime().availableProcessors() - 1);
+        // Platform workers are bounded by the cores, virtual ones by how many reads may overlap
+        ChunkLoader.ExecutionMode loaderMode = ChunkLoader.ExecutionMode.parse(GameConfig.CHUNK_LOADER_MODE);
+        int loaderConcurrency = loaderMode == ChunkLoader.ExecutionMode.VIRTUAL
+            ? Math.max(1, Math.min(GameConfig.VIRTUAL_LOADER_CONCURRENCY, GameConfig.MAX_PENDING_CHUNK_LOADS))
+            : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.chunkLoader = new ChunkLoader(
+            loaderMode,
+            loaderConcurrency,
+            GameConfig.MAX_PENDING_CHUNK_LOADS,
+            this::buildChunk
+        );
         EventBus.getInstance().subscribe(EventType.WORLD_GENERATION, this);
 
         generateSuperFlat();
@@ -66,72 +125,123 @@ public class World implements EventListener {
 
     /**
      * Returns all blocks that should be rendered this frame.
+     * Reads published chunk snapshots only, so it takes no chunk locks.
      * Applies frustum culling and occlusion optimizations.
      * Maintains performance statistics for analysis.
      *
      * @return List of blocks to render based on visibility and culling
      */
-    public List<AbstractBlock> getVisibleBlocks() {
-        List<AbstractBlock> visibleAbstractBlocks = new ArrayList<>();
+    public List<PlacedBlock> getVisibleBlocks() {
+        List<PlacedBlock> visibleBlocks = new ArrayList<>();
         int totalChunkCount = 0;
         int culledChunkCount = 0;
 
-        synchronized(chunksLock) {
-            // Process each chunk with frustum culling
-            for (Chunk chunk : chunks) {
-                totalChunkCount++;
-                boolean isChunkVisible = frustum.isChunkInFrustum(chunk.getPosition(), CHUNK_SIZE);
-
-                Collection<AbstractBlock> chunkAbstractBlocks = chunk.getBlocks();
-                if (!isChunkVisible) {
-                    // Skip culled chunks but track statistics
-                    culledChunkCount++;
-                    PerformanceMetrics.logBlocks(
-                        chunkAbstractBlocks.size(),  // Total blocks in chunk
-                        0,                   // No blocks rendered
-                        0,                   // None occluded (all culled)
-                        chunkAbstractBlocks.size()   // All blocks culled with chunk
-                    );
-                    continue;
-                }
-
-                // Count visible and occluded blocks in visible chunks
-                int totalInChunk = chunkAbstractBlocks.size();
-                int visibleInChunk = (int) chunkAbstractBlocks.stream()
-                        .filter(AbstractBlock::isVisible)
-                        .count();
-                int occludedInChunk = totalInChunk - visibleInChunk;
+        // Process each chunk with frustum culling
+        for (Chunk chunk : chunks) {
+            totalChunkCount++;
+            boolean isChunkVisible = frustum.isChunkInFrustum(chunk.getPosition(), CHUNK_SIZE);
 
-                // Log statistics for visible chunks
+            ChunkSnapshot snapshot = chunk.getSnapshot();
+            int totalInChunk = snapshot.blockCount();
+            if (!isChunkVisible) {
+                // Skip culled chunks but track statistics
+                culledChunkCount++;
                 PerformanceMetrics.logBlocks(
-                    totalInChunk,     // Total blocks
-                    visibleInChunk,   // Blocks to render
-                    occludedInChunk,  // Hidden by other blocks
-                    0                 // None culled (chunk visible)
+                    totalInChunk,        // Total blocks in chunk
+                    0,                   // No blocks rendered
+                    0,                   // None occluded (all culled)
+                    totalInChunk         // All blocks culled with chunk
                 );
-
-                // Add visible blocks to render list
-                chunkAbstractBlocks.stream()
-                    .filter(AbstractBlock::isVisible)
-                    .forEach(visibleAbstractBlocks::add);
+                continue;
             }
 
-            // Update chunk culling metrics
-            PerformanceMetrics.logChunk(totalChunkCount, culledChunkCount);
+            // Count visible and occluded blocks in visible chunks
+            List<PlacedBlock> chunkBlocks = snapshot.surfaceBlocks();
+            int visibleInChunk = chunkBlocks.size();
+            int occludedInChunk = totalInChunk - visibleInChunk;
+
+            // Log statistics for visible chunks
+            PerformanceMetrics.logBlocks(
+                totalInChunk,     // Total blocks
+                visibleInChunk,   // Blocks to render
+                occludedInChunk,  // Hidden by other blocks
+                0                 // None culled (chunk visible)
+            );
+
+            // Add visible blocks to render list
+            visibleBlocks.addAll(chunkBlocks);
         }
-        return visibleAbstractBlocks;
+
+        // Update chunk culling metrics
+        PerformanceMetrics.logChunk(totalChunkCount, culledChunkCount);
+        return visibleBlocks;
     }
 
     /**
      * Gets block at specified world position
      */
     public AbstractBlock getBlock(Vector3f position) {
-        Vector3f chunkPos = calculateChunkCoordinates(position);
-        return chunks.stream()
-            .filter(c -> c.getPosition().equals(chunkPos))
-            .findFirst()
-            .map(c -> c.getBlock(position))
-            .orElse(null);
+        return getBlock(blockX(position), blockY(position), blockZ(position));
+    }
+
+    /**
+     * Gets block at block coordinates without allocating
+     */
+    public AbstractBlock getBlock(int x, int y, int z) {
+        BlockType type = getBlockType(x, y, z);
+        return type != null ? BlockFactory.getBlock(type) : null;
+    }
+
+    /**
+     * Gets block type at block coordinates, null for air or unloaded chunks
+     */
+    public BlockType getBlockType(int x, int y, int z) {
+        Chunk chunk = getChunkAt(x, y, z);
+        return chunk != null ? chunk.getBlockType(x, y, z) : null;
+    }
+
+    /**
+     * Checks if block coordinates hold any block
+     */
+    public boolean hasBlock(int x, int y, int z) {
+        return getBlockType(x, y, z) != null;
+    }
+
+    /**
+     * Checks if block coordinates hold an opaque block
+     */
+    public boolean isOpaque(int x, int y, int z) {
+        BlockType type = getBlockType(x, y, z);
+        return type != null && BlockFactory.getBlock(type).isOpaque();
+    }
+
+    /**
+     * Gets block with its position and visible faces at specified world position
+     */
+    public PlacedBlock getPlacedBlock(Vector3f position) {
+        return getPlacedBlock(blockX(position), blockY(position), blockZ(position));
+    }
+
+    /**
+     * Gets block with its position and visible faces at block coordinates
+     */
+    public PlacedBlock getPlacedBlock(int x, int y, int z) {
+        Chunk chunk = getChunkAt(x, y, z);
+        return chunk != null ? chunk.getPlacedBlock(x, y, z) : null;
+    }
+
+    /**
+     * Gets loaded chunk at chunk coordinates, or {@code null} if not loaded or empty
+     */
+    public Chunk getChunk(int chunkX, int chunkY, int chunkZ) {
+        return chunks.get(chunkX, chunkY, chunkZ);
+    }
+
+    /**
+     * Gets chunk containing block coordinates
+     */
+    private Chunk getChunkAt(int x, int y, int z) {
+        return chunks.get(x >> CHUNK_SHIFT, y >> CHUNK_SHIFT, z >> CHUNK_SHIFT);
     }
 
     /**
@@ -139,35 +249,91 @@ public class World implements EventListener {
      */
     private Vector3f calculateChunkCoordinates(Vector3f position) {
         return new Vector3f(
-            fastFloor(position.x() / CHUNK_SIZE),
-            fastFloor(position.y() / CHUNK_SIZE),
-            fastFloor(position.z() / CHUNK_SIZE)
+            blockX(position) >> CHUNK_SHIFT,
+            blockY(position) >> CHUNK_SHIFT,
+            blockZ(position) >> CHUNK_SHIFT
         );
     }
 
     /**
-     * Generates initial terrain around spawn point
+     * Generates initial terrain around spawn point.
+     * Columns within the spawn radius are built in parallel ring by ring, nearest first,
+     * so the ground under the player is complete before the outer rings start. The rest
+     * of the load area is left to streaming.
      */
     private void generateSuperFlat() {
-        Vector3f playerChunkPos = calculateChunkCoordinates(lastKnownPlayerPos);
-
-        for (int x = -GameConfig.RENDER_DISTANCE; x <= GameConfig.RENDER_DISTANCE; x++) {
-            for (int y = -GameConfig.RENDER_DISTANCE; y <= GameConfig.RENDER_DISTANCE; y++) {
-                for (int z = -GameConfig.RENDER_DISTANCE; z <= GameConfig.RENDER_DISTANCE; z++) {
-                    Vector3f newPos = new Vector3f(
-                        playerChunkPos.x() + x,
-                        playerChunkPos.y() + y,
-                        playerChunkPos.z() + z
-                    );
-                    chunkLoader.queueChunkLoad(newPos);
+        int spawnRadius = Math.min(loadRadius, Math.max(0, GameConfig.SPAWN_RADIUS));
+
+        List<Vector3f> ring = new ArrayList<>();
+        int ringIndex = 0;
+        for (int[] offset : columnOffsets()) {
+            int offsetRing = (int) Math.round(Math.sqrt(offset[0] * offset[0] + offset[1] * offset[1]));
+            if (offsetRing != ringIndex) {
+                generateSpawnRing(ring);
+                ring.clear();
+                ringIndex = offsetRing;
+            }
+
+            int extent = loadShape.verticalExtent(offset[0], offset[1], loadRadius, loadHeight);
+            for (int y = -extent; y <= extent; y++) {
+                Vector3f newPos = new Vector3f(
+                    loadCenter.x() + offset[0],
+                    loadCenter.y() + y,
+                    loadCenter.z() + offset[1]
+                );
+                if (offsetRing <= spawnRadius) {
+                    ring.add(newPos);
+                } else {
+                    missingChunks.add(newPos);
                 }
             }
         }
+        generateSpawnRing(ring);
+        missingChunks.sort(Comparator.comparingDouble(pos -> pos.distanceSquared(loadCenter)));
+    }
+
+    /**
+     * Builds and integrates one ring of spawn chunks on the fork-join pool.
+     * Chunks are built in parallel, registered in order, then faces of the new chunks
+     * and their loaded neighbors are computed in parallel.
+     */
+    private void generateSpawnRing(List<Vector3f> ring) {
+        if (ring.isEmpty()) {
+            return;
+        }
+
+        List<GeneratedChunk> built = ring.parallelStream().map(this::buildChunk).toList();
+
+        Set<Chunk> facesToUpdate = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (GeneratedChunk generated : built) {
+            if (registerChunk(generated) && !generated.isEmpty()) {
+                facesToUpdate.add(generated.chunk());
+                forEachNeighborChunk(generated.position(), facesToUpdate::add);
+            }
+        }
+        facesToUpdate.parallelStream().forEach(this::updateChunkBlockFaces);
+    }
+
+    /**
+     * Gets X/Z column offsets within the load area, nearest first
+     */
+    private List<int[]> columnOffsets() {
+        List<int[]> offsets = new ArrayList<>();
+        for (int x = -loadRadius; x <= loadRadius; x++) {
+            for (int z = -loadRadius; z <= loadRadius; z++) {
+                if (loadShape.verticalExtent(x, z, loadRadius, loadHeight) >= 0) {
+                    offsets.add(new int[] {x, z});
+                }
+            }
+        }
+        offsets.sort(Comparator.comparingInt(offset -> offset[0] * offset[0] + offset[1] * offset[1]));
+        return offsets;
     }
 
     /**
      * Updates loaded chunks based on player position.
-     * Removes chunks outside render distance and generates new chunks as needed.
+     * The load shell only changes when the player enters another chunk, then just
+     * the chunks leaving the unload radius and entering the load radius are visited.
      *
      * @param playerPos Current player position in world coordinates
      */
@@ -175,124 +341,569 @@ public class World implements EventListener {
         lastKnownPlayerPos = playerPos;
         Vector3f playerChunkPos = calculateChunkCoordinates(playerPos);
 
-        // Remove out-of-range chunks
-        chunks.removeIf(chunk -> isChunkOutOfRange(chunk.getPosition(), playerChunkPos));
+        if (loadSettingsChanged()) {
+            captureLoadSettings();
+            rebuildLoadShell(playerChunkPos);
+            loadCenter.set(playerChunkPos);
+        } else if (!playerChunkPos.equals(loadCenter)) {
+            updateLoadShell(new Vector3f(loadCenter), playerChunkPos);
+            loadCenter.set(playerChunkPos);
+        }
 
-        // Load new chunks
-        List<Vector3f> newChunks = findMissingChunks(playerChunkPos);
-        newChunks.forEach(pos -> EventBus.getInstance().post(new WorldGenerationEvent(pos)));
+        // Reprioritize waiting requests and drop those that left the load area
+        chunkLoader.updateFocus(playerChunkPos, frustum.getViewDirection(new Vector3f()), pos ->
+            !isInArea((int) pos.x(), (int) pos.y(), (int) pos.z(), playerChunkPos, loadRadius, loadHeight)
+        );
 
-        updateAffectedChunks(newChunks);
+        // Request missing chunks, then take in what workers finished
+        requestMissingChunks();
+        integrateCompletedChunks(playerChunkPos);
     }
 
     /**
-     * Checks if chunk is beyond render distance
+     * Moves the load shell from one player chunk to another.
+     * Unloads chunks leaving the unload radius and adds chunks entering the load radius
+     * to the missing list, which is kept sorted nearest first.
      */
-    private boolean isChunkOutOfRange(Vector3f chunkPos, Vector3f playerChunkPos) {
-        float dx = Math.abs(chunkPos.x() - playerChunkPos.x());
-        float dy = Math.abs(chunkPos.y() - playerChunkPos.y());
-        float dz = Math.abs(chunkPos.z() - playerChunkPos.z());
-        return dx > GameConfig.RENDER_DISTANCE ||
-                dy > GameConfig.RENDER_DISTANCE ||
-                dz > GameConfig.RENDER_DISTANCE;
+    private void updateLoadShell(Vector3f from, Vector3f to) {
+        forEachShellDifference(from, to, loadRadius + unloadMargin, loadHeight + unloadMargin, this::unloadChunk);
+
+        missingChunks.removeIf(pos ->
+            !isInArea((int) pos.x(), (int) pos.y(), (int) pos.z(), to, loadRadius, loadHeight)
+        );
+        missingChunks.addAll(findMissingChunks(from, to));
+        missingChunks.sort(Comparator.comparingDouble(pos -> pos.distanceSquared(to)));
     }
 
     /**
-     * Finds positions requiring new chunk generation
+     * Recomputes the whole load shell after load settings changed.
+     * Unloads every chunk outside the new unload area and lists every missing chunk in the new load area.
      */
-    private List<Vector3f> findMissingChunks(Vector3f playerChunkPos) {
-        List<Vector3f> newChunks = new ArrayList<>();
+    private void rebuildLoadShell(Vector3f center) {
+        for (Chunk chunk : chunks.removeIf(chunk -> isChunkOutOfRange(chunk.getPosition(), center))) {
+            chunkCache.put(chunk);
+            chunk.release();
+        }
+        columns.removeIf(column -> column.removeSectionsIf(sectionY ->
+            isChunkOutOfRange(column.getX(), sectionY, column.getZ(), center)
+        ));
+
+        missingChunks.clear();
+        missingChunks.addAll(findMissingChunks(null, center));
+        missingChunks.sort(Comparator.comparingDouble(pos -> pos.distanceSquared(center)));
+    }
+
+    /**
+     * Reads load area settings, they stay fixed until they change in the config
+     */
+    private void captureLoadSettings() {
+        loadShapeName = GameConfig.LOAD_SHAPE;
+        loadShape = LoadShape.parse(loadShapeName);
+        loadRadius = Math.max(0, GameConfig.RENDER_DISTANCE);
+        loadHeight = Math.max(0, GameConfig.VERTICAL_RENDER_DISTANCE);
+        unloadMargin = Math.max(0, GameConfig.UNLOAD_MARGIN);
+    }
+
+    /**
+     * Checks if load area settings differ from the ones the shell was built with
+     */
+    private boolean loadSettingsChanged() {
+        return !Objects.equals(loadShapeName, GameConfig.LOAD_SHAPE)
+            || loadRadius != Math.max(0, GameConfig.RENDER_DISTANCE)
+            || loadHeight != Math.max(0, GameConfig.VERTICAL_RENDER_DISTANCE)
+            || unloadMargin != Math.max(0, GameConfig.UNLOAD_MARGIN);
+    }
+
+    /**
+     * Checks if every chunk of the load area around the player is loaded.
+     */
+    public boolean isLoadAreaComplete() {
+        return missingChunks.isEmpty();
+    }
+
+    /**
+     * Hands missing chunks to the loader nearest first while it has capacity.
+     * Chunks leave the list once loaded, requests still in flight are skipped.
+     */
+    private void requestMissingChunks() {
+        Iterator<Vector3f> iterator = missingChunks.iterator();
+        while (iterator.hasNext() && chunkLoader.hasCapacity()) {
+            Vector3f pos = iterator.next();
+            if (isSectionLoaded((int) pos.x(), (int) pos.y(), (int) pos.z())) {
+                iterator.remove();
+            } else if (!chunkLoader.isRequested(pos)) {
+                chunkLoader.queueChunkLoad(pos);
+            }
+        }
+    }
+
+    /**
+     * Unloads chunk section into the cache, dropping its column once no section is left
+     */
+    private void unloadChunk(int chunkX, int chunkY, int chunkZ) {
+        Chunk chunk = chunks.remove(chunkX, chunkY, chunkZ);
+        if (chunk != null) {
+            chunkCache.put(chunk);
+            chunk.release();
+        }
 
-        for (int x = -GameConfig.RENDER_DISTANCE; x <= GameConfig.RENDER_DISTANCE; x++) {
-            for (int y = -GameConfig.RENDER_DISTANCE; y <= GameConfig.RENDER_DISTANCE; y++) {
-                for (int z = -GameConfig.RENDER_DISTANCE; z <= GameConfig.RENDER_DISTANCE; z++) {
-                    Vector3f newPos = new Vector3f(
-                        playerChunkPos.x() + x,
-                        playerChunkPos.y() + y,
-                        playerChunkPos.z() + z
-                    );
-                    if (chunks.stream().noneMatch(c -> c.getPosition().equals(newPos))) {
-                        newChunks.add(newPos);
+        long key = columnKey(chunkX, chunkZ);
+        ChunkColumn column = columns.get(key);
+        if (column != null && column.removeSection(chunkY)) {
+            columns.remove(key);
+        }
+    }
+
+    /**
+     * Visits chunk positions in the area around center but not in the same area around other.
+     * Works column by column, so the cost grows with the shell area rather than its volume.
+     *
+     * @param other Previous center, or {@code null} to visit the whole area
+     * @param horizontal,vertical Area radii in chunks
+     */
+    private void forEachShellDifference(Vector3f center, Vector3f other, int horizontal, int vertical,
+                                        ChunkVisitor visitor) {
+        int centerX = (int) center.x();
+        int centerY = (int) center.y();
+        int centerZ = (int) center.z();
+
+        for (int x = centerX - horizontal; x <= centerX + horizontal; x++) {
+            for (int z = centerZ - horizontal; z <= centerZ + horizontal; z++) {
+                int extent = loadShape.verticalExtent(x - centerX, z - centerZ, horizontal, vertical);
+                if (extent < 0) {
+                    continue;
+                }
+
+                // Part of the column the other area already covers
+                int otherExtent = other == null ? -1 : loadShape.verticalExtent(
+                    x - (int) other.x(), z - (int) other.z(), horizontal, vertical
+                );
+                for (int y = centerY - extent; y <= centerY + extent; y++) {
+                    if (otherExtent < 0 || Math.abs(y - (int) other.y()) > otherExtent) {
+                        visitor.visit(x, y, z);
                     }
                 }
             }
         }
-        return newChunks;
     }
 
     /**
-     * Updates chunks affected by terrain changes
+     * Integrates chunks finished by workers until the frame budget is spent.
+     * At least one chunk is integrated per call so loading always progresses.
      */
-    private void updateAffectedChunks(List<Vector3f> newChunks) {
-        Set<Vector3f> chunksToUpdate = new HashSet<>(newChunks);
+    private void integrateCompletedChunks(Vector3f playerChunkPos) {
+        long budgetNanos = (long) (GameConfig.CHUNK_INTEGRATION_BUDGET_MS * 1_000_000L);
+        long start = System.nanoTime();
 
-        // Add neighboring chunks
-        for (Vector3f pos : newChunks) {
-            for (int dx = -1; dx <= 1; dx++) {
-                for (int dy = -1; dy <= 1; dy++) {
-                    for (int dz = -1; dz <= 1; dz++) {
-                        chunksToUpdate.add(new Vector3f(
-                            pos.x() + dx,
-                            pos.y() + dy,
-                            pos.z() + dz
-                        ));
-                    }
+        GeneratedChunk generated;
+        while ((generated = chunkLoader.pollCompleted()) != null) {
+            if (isChunkOutOfRange(generated.position(), playerChunkPos)) {
+                // Player moved on while it was built, keep restored edits in the cache
+                Vector3f pos = generated.position();
+                if (!generated.isEmpty()) {
+                    chunkCache.put(generated.chunk());
+                    generated.chunk().release();
                 }
+                unloadChunk((int) pos.x(), (int) pos.y(), (int) pos.z());
+            } else if (integrateChunk(generated)) {
+                updateNeighborFaces(generated.position());
+            }
+
+            if (System.nanoTime() - start >= budgetNanos) {
+                break;
             }
         }
+    }
+
+    /**
+     * Checks if chunk is beyond unload distance
+     */
+    private boolean isChunkOutOfRange(Vector3f chunkPos, Vector3f playerChunkPos) {
+        return isChunkOutOfRange((int) chunkPos.x(), (int) chunkPos.y(), (int) chunkPos.z(), playerChunkPos);
+    }
 
-        // Update block faces
-        chunksToUpdate.forEach(pos ->
-            chunks.stream()
-                .filter(c -> c.getPosition().equals(pos))
-                .forEach(this::updateChunkBlockFaces)
+    /**
+     * Checks if chunk coordinates are beyond unload distance.
+     * Chunks load within the load area but unload only past the extra margin,
+     * so moving back and forth over a chunk border does not churn chunks.
+     */
+    private boolean isChunkOutOfRange(int chunkX, int chunkY, int chunkZ, Vector3f playerChunkPos) {
+        return !isInArea(chunkX, chunkY, chunkZ, playerChunkPos, loadRadius + unloadMargin, loadHeight + unloadMargin);
+    }
+
+    /**
+     * Checks if chunk coordinates lie in the load shape of given radii around the player chunk
+     */
+    private boolean isInArea(int chunkX, int chunkY, int chunkZ, Vector3f playerChunkPos, int horizontal, int vertical) {
+        return loadShape.contains(
+            chunkX - (int) playerChunkPos.x(),
+            chunkY - (int) playerChunkPos.y(),
+            chunkZ - (int) playerChunkPos.z(),
+            horizontal, vertical
         );
     }
 
     /**
-     * Generates terrain for single chunk
+     * Finds positions entering the load area on the move between player chunks that are not loaded yet
+     *
+     * @param from Previous player chunk, or {@code null} for the whole area
      */
-    public synchronized void generateChunkTerrain(Vector3f pos) {
-        synchronized(chunksLock) {
-            if (chunks.stream().anyMatch(c -> c.getPosition().equals(pos))) {
-                return;
+    private List<Vector3f> findMissingChunks(Vector3f from, Vector3f to) {
+        List<Vector3f> newChunks = new ArrayList<>();
+        forEachShellDifference(to, from, loadRadius, loadHeight, (chunkX, chunkY, chunkZ) -> {
+            if (!isSectionLoaded(chunkX, chunkY, chunkZ)) {
+                newChunks.add(new Vector3f(chunkX, chunkY, chunkZ));
             }
+        });
+        return newChunks;
+    }
 
-            Chunk chunk = new Chunk(pos);
-            for (int bx = 0; bx < CHUNK_SIZE; bx++) {
-                for (int by = 0; by < CHUNK_SIZE; by++) {
-                    for (int bz = 0; bz < CHUNK_SIZE; bz++) {
-                        generateBlockAt(chunk, pos, bx, by, bz);
-                    }
+    /**
+     * Checks if section at chunk coordinates is loaded, allocated or empty
+     */
+    private boolean isSectionLoaded(int chunkX, int chunkY, int chunkZ) {
+        ChunkColumn column = columns.get(columnKey(chunkX, chunkZ));
+        return column != null && column.isSectionLoaded(chunkY);
+    }
+
+    /**
+     * Updates faces of loaded chunks sharing a face with a new chunk
+     */
+    private void updateNeighborFaces(Vector3f pos) {
+        forEachNeighborChunk(pos, this::updateChunkBlockFaces);
+    }
+
+    /**
+     * Passes each loaded chunk sharing a face with chunk position to action
+     */
+    private void forEachNeighborChunk(Vector3f pos, Consumer<Chunk> action) {
+        int x = (int) pos.x();
+        int y = (int) pos.y();
+        int z = (int) pos.z();
+        int[][] offsets = {{-1, 0, 0}, {1, 0, 0}, {0, -1, 0}, {0, 1, 0}, {0, 0, -1}, {0, 0, 1}};
+        for (int[] offset : offsets) {
+            Chunk neighbor = chunks.get(x + offset[0], y + offset[1], z + offset[2]);
+            if (neighbor != null) {
+                action.accept(neighbor);
+            }
+        }
+    }
+
+    /**
+     * Generates terrain for single chunk and adds it to the world
+     */
+    public void generateChunkTerrain(Vector3f pos) {
+        ChunkColumn column = columns.get(columnKey((int) pos.x(), (int) pos.z()));
+        if (column != null && column.isSectionLoaded((int) pos.y())) {
+            return;
+        }
+        integrateChunk(buildChunk(pos));
+    }
+
+    /**
+     * Builds chunk detached from the world, safe to call from worker threads.
+     * Restores recently unloaded chunks from the cache, then reads pre-generated chunks
+     * from the store, otherwise generates terrain.
+     *
+     * @param pos Chunk coordinates
+     * @return Built chunk, empty for sky sections
+     */
+    public GeneratedChunk buildChunk(Vector3f pos) {
+        ChunkColumn column = getOrCreateColumn((int) pos.x(), (int) pos.z());
+        int sectionY = (int) pos.y();
+
+        // Recently unloaded chunks come back with their edits, including built-up sky sections
+        Chunk chunk = chunkCache.take((int) pos.x(), sectionY, (int) pos.z());
+        if (chunk != null) {
+            PerformanceMetrics.logCacheHit();
+            return new GeneratedChunk(pos, chunk);
+        }
+
+        // Sky sections stay unallocated
+        if (column.isSkySection(sectionY)) {
+            return new GeneratedChunk(pos, null);
+        }
+
+        PerformanceMetrics.logCacheMiss();
+        chunk = new Chunk(pos);
+
+        // Pre-generated terrain is read back instead of sampling noise
+        byte[] stored = chunkStore != null ? chunkStore.read((int) pos.x(), sectionY, (int) pos.z()) : null;
+        if (stored != null) {
+            chunk.importVoxels(stored);
+            return new GeneratedChunk(pos, chunk);
+        }
+
+        // Chunks deep in stone are classified before any per-block noise
+        double[] lattice = null;
+        if (isBelowDirt(column, sectionY)) {
+            int bottom = sectionY << CHUNK_SHIFT;
+            if (bottom + CHUNK_MASK < 0) {
+                // Below bedrock caves never form
+                chunk.fill(BlockType.STONE);
+                return new GeneratedChunk(pos, chunk);
+            }
+            if (bottom > 0) {
+                lattice = sampleCaveLattice(pos, caveMinY(sectionY), caveMaxY(column, sectionY));
+                if (isCaveFree(lattice)) {
+                    chunk.fill(BlockType.STONE);
+                    return new GeneratedChunk(pos, chunk);
+                }
+            }
+        }
+
+        CaveSamples caves = sampleCaves(column, pos, lattice);
+
+        for (int bx = 0; bx < CHUNK_SIZE; bx++) {
+            for (int by = 0; by < CHUNK_SIZE; by++) {
+                for (int bz = 0; bz < CHUNK_SIZE; bz++) {
+                    generateBlockAt(chunk, column, caves, pos, bx, by, bz);
+                }
+            }
+        }
+        return new GeneratedChunk(pos, chunk);
+    }
+
+    /**
+     * Drops column kept only for chunks built detached from the world.
+     * Columns with loaded sections stay, for use once detached builds of the column are done.
+     */
+    public void releaseColumn(int chunkX, int chunkZ) {
+        long key = columnKey(chunkX, chunkZ);
+        ChunkColumn column = columns.get(key);
+        if (column != null && column.isEmpty()) {
+            columns.remove(key);
+        }
+    }
+
+    /**
+     * Registers built chunk with the world and computes its faces.
+     * Chunks for sections that are already loaded are released.
+     *
+     * @return true if the section was newly loaded
+     */
+    private boolean integrateChunk(GeneratedChunk generated) {
+        if (!registerChunk(generated)) {
+            return false;
+        }
+        if (!generated.isEmpty()) {
+            updateChunkBlockFaces(generated.chunk());
+        }
+        return true;
+    }
+
+    /**
+     * Registers built chunk with its column and the chunk registry without computing faces.
+     * Chunks for sections that are already loaded are released.
+     *
+     * @return true if the section was newly loaded
+     */
+    private boolean registerChunk(GeneratedChunk generated) {
+        Vector3f pos = generated.position();
+        ChunkColumn column = getOrCreateColumn((int) pos.x(), (int) pos.z());
+        Chunk chunk = generated.chunk();
+
+        if (column.isSectionLoaded((int) pos.y())) {
+            if (chunk != null) {
+                chunk.release();
+            }
+            return false;
+        }
+        if (chunk == null) {
+            column.addEmptySection((int) pos.y());
+            return true;
+        }
+
+        // A chunk allocated by block placement may have won the race
+        Chunk existing = chunks.addIfAbsent(chunk);
+        if (existing != null) {
+            chunk.release();
+            column.addSection(existing);
+            return false;
+        }
+        column.addSection(chunk);
+        return true;
+    }
+
+    /**
+     * Gets column at chunk coordinates, taking its heightmap from the region cache
+     */
+    private ChunkColumn getOrCreateColumn(int chunkX, int chunkZ) {
+        long key = columnKey(chunkX, chunkZ);
+        ChunkColumn column = columns.get(key);
+        if (column == null) {
+            // Heights are computed outside the map lock, a racing thread's column wins
+            column = new ChunkColumn(chunkX, chunkZ, heightmapCache.get(chunkX, chunkZ));
+            ChunkColumn existing = columns.putIfAbsent(key, column);
+            if (existing != null) {
+                column = existing;
+            }
+        }
+        return column;
+    }
+
+    /**
+     * Calculates terrain height for every X/Z position of a column
+     */
+    private int[] generateTerrainHeights(int chunkX, int chunkZ) {
+        double[] noise = new double[CHUNK_SIZE * CHUNK_SIZE];
+        terrainNoise.fillNoise(chunkX << CHUNK_SHIFT, chunkZ << CHUNK_SHIFT, CHUNK_SIZE, CHUNK_SIZE, 32.0, noise);
+
+        int[] heights = new int[noise.length];
+        for (int i = 0; i < noise.length; i++) {
+            heights[i] = (int)(noise[i] * 32) + 32;
+        }
+        return heights;
+    }
+
+    /**
+     * Checks if every block of section lies below the dirt layer of the lowest column surface.
+     * Such sections are stone apart from caves and the bedrock layer.
+     */
+    private boolean isBelowDirt(ChunkColumn column, int sectionY) {
+        int top = (sectionY << CHUNK_SHIFT) + CHUNK_MASK;
+        return top <= column.getMinTerrainHeight() - 4;
+    }
+
+    /**
+     * Checks if no block covered by the cave lattice can reach the carving threshold.
+     * Coarse caves interpolate the lattice and never exceed its highest point; exact
+     * noise may rise above it by the noise type's lattice margin.
+     */
+    private boolean isCaveFree(double[] lattice) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (double value : lattice) {
+            max = Math.max(max, value);
+        }
+        double margin = caveSampling == CaveSampling.COARSE ? 0 : noiseType.getLatticeMargin();
+        return max + margin <= CAVE_THRESHOLD;
+    }
+
+    /**
+     * Gets lowest world Y of a section where caves can be carved, caves only form above Y 5
+     */
+    private static int caveMinY(int sectionY) {
+        return Math.max(sectionY << CHUNK_SHIFT, 6);
+    }
+
+    /**
+     * Gets highest world Y of a section where caves can be carved, at least two blocks below the surface
+     */
+    private static int caveMaxY(ChunkColumn column, int sectionY) {
+        return Math.min((sectionY << CHUNK_SHIFT) + CHUNK_MASK, column.getMaxTerrainHeight() - 2);
+    }
+
+    /**
+     * Samples cave noise for the layers of a chunk where caves can be carved.
+     *
+     * @param lattice Cave lattice already sampled for the chunk, or {@code null}
+     */
+    private CaveSamples sampleCaves(ChunkColumn column, Vector3f chunkPos, double[] lattice) {
+        int sectionY = (int) chunkPos.y();
+        int minY = caveMinY(sectionY);
+        int maxY = caveMaxY(column, sectionY);
+        if (maxY < minY) {
+            return new CaveSamples(minY, new double[0]);
+        }
+
+        int baseX = (int) chunkPos.x() << CHUNK_SHIFT;
+        int baseZ = (int) chunkPos.z() << CHUNK_SHIFT;
+        int layers = maxY - minY + 1;
+        double[] values = new double[layers * CHUNK_SIZE * CHUNK_SIZE];
+        if (caveSampling == CaveSampling.COARSE) {
+            if (lattice == null) {
+                lattice = sampleCaveLattice(chunkPos, minY, maxY);
+            }
+            interpolateCaves(lattice, minY, layers, values);
+        } else {
+            caveNoise.fillNoise3D(baseX, minY, baseZ, CHUNK_SIZE, layers, CHUNK_SIZE, 16.0, values);
+        }
+        return new CaveSamples(minY, values);
+    }
+
+    /**
+     * Samples cave noise on the coarse lattice covering layers minY to maxY of a chunk,
+     * including the far border points. Lattice points sit at world coordinates divisible
+     * by the spacing and take the exact noise value there, so neighboring chunks agree
+     * along their shared border.
+     *
+     * @return Samples indexed (y * size + z) * size + x from the lattice layer at or below minY
+     */
+    private double[] sampleCaveLattice(Vector3f chunkPos, int minY, int maxY) {
+        int shift = CaveSampling.LATTICE_SHIFT;
+        int latticeY = minY >> shift;
+        int sizeXZ = (CHUNK_SIZE >> shift) + 1;
+        int sizeY = (maxY >> shift) - latticeY + 2;
+        double[] lattice = new double[sizeXZ * sizeY * sizeXZ];
+        caveNoise.fillNoise3D(((int) chunkPos.x() << CHUNK_SHIFT) >> shift, latticeY,
+            ((int) chunkPos.z() << CHUNK_SHIFT) >> shift, sizeXZ, sizeY, sizeXZ, 16.0 / (1 << shift), lattice);
+        return lattice;
+    }
+
+    /**
+     * Interpolates the coarse cave lattice trilinearly to every block.
+     *
+     * @param lattice Samples from {@link #sampleCaveLattice} for the same layers
+     * @param minY,layers World Y of the first layer and number of layers to fill
+     * @param values Receives samples indexed like chunk voxels from minY up
+     */
+    private void interpolateCaves(double[] lattice, int minY, int layers, double[] values) {
+        int shift = CaveSampling.LATTICE_SHIFT;
+        int mask = (1 << shift) - 1;
+        double spacing = 1 << shift;
+        int latticeY = minY >> shift;
+        int sizeXZ = (CHUNK_SIZE >> shift) + 1;
+
+        int strideZ = sizeXZ;
+        int strideY = sizeXZ * sizeXZ;
+        for (int layer = 0; layer < layers; layer++) {
+            int worldY = minY + layer;
+            int cellY = (worldY >> shift) - latticeY;
+            double fy = (worldY & mask) / spacing;
+            for (int bz = 0; bz < CHUNK_SIZE; bz++) {
+                int cellZ = bz >> shift;
+                double fz = (bz & mask) / spacing;
+                for (int bx = 0; bx < CHUNK_SIZE; bx++) {
+                    int cellX = bx >> shift;
+                    double fx = (bx & mask) / spacing;
+
+                    int corner = cellY * strideY + cellZ * strideZ + cellX;
+                    double c00 = lerp(lattice[corner], lattice[corner + 1], fx);
+                    double c01 = lerp(lattice[corner + strideZ], lattice[corner + strideZ + 1], fx);
+                    double c10 = lerp(lattice[corner + strideY], lattice[corner + strideY + 1], fx);
+                    double c11 = lerp(lattice[corner + strideY + strideZ], lattice[corner + strideY + strideZ + 1], fx);
+                    values[(((layer << CHUNK_SHIFT) | bz) << CHUNK_SHIFT) | bx] =
+                        lerp(lerp(c00, c01, fz), lerp(c10, c11, fz), fy);
                 }
             }
-            chunks.add(chunk);
-            updateChunkBlockFaces(chunk);
         }
     }
 
+    /**
+     * Interpolates linearly between two values
+     */
+    private static double lerp(double a, double b, double t) {
+        return a + t * (b - a);
+    }
+
     /**
      * Generates single block during chunk generation
      */
-    private void generateBlockAt(Chunk chunk, Vector3f chunkPos, int bx, int by, int bz) {
-        float worldX = bx + (chunkPos.x() * CHUNK_SIZE);
-        float worldY = by + (chunkPos.y() * CHUNK_SIZE);
-        float worldZ = bz + (chunkPos.z() * CHUNK_SIZE);
+    private void generateBlockAt(Chunk chunk, ChunkColumn column, CaveSamples caves,
+                                 Vector3f chunkPos, int bx, int by, int bz) {
+        int worldY = ((int) chunkPos.y() << CHUNK_SHIFT) + by;
 
-        // Calculate terrain height
-        double noise = terrainNoise.noise(worldX / 32.0, worldZ / 32.0);
-        int height = (int)(noise * 32) + 32;
+        // Terrain height comes from the column heightmap
+        int height = column.getTerrainHeight(bx, bz);
 
         if (worldY <= height) {
             // Check cave generation
-            double caveValue = caveNoise.noise3D(worldX / 16.0, worldY / 16.0, worldZ / 16.0);
-            if (caveValue > 0.7 && worldY > 5 && worldY < height - 1) {
+            if (worldY > 5 && worldY < height - 1 && caves.get(bx, worldY, bz) > CAVE_THRESHOLD) {
                 return;
             }
 
-            BlockType type = determineBlockType((int)worldY, height);
-            Vector3f blockPos = new Vector3f(worldX, worldY, worldZ);
-            chunk.setBlock(BlockFactory.createBlock(type, blockPos));
+            BlockType type = determineBlockType(worldY, height);
+            chunk.setBlock(bx, by, bz, type);
         }
     }
 
@@ -300,8 +911,8 @@ public class World implements EventListener {
      * Updates visibility state of blocks in chunk
      */
     private void updateChunkBlockFaces(Chunk chunk) {
-        chunk.getBlocks().forEach(block -> block.updateVisibleFaces(this));
-        occlusionCulling.updateOcclusion(chunk, this);
+        chunk.updateBlockFaces(this);
+        chunk.publishSnapshot();
     }
 
     /**
@@ -314,21 +925,13 @@ public class World implements EventListener {
         return BlockType.STONE;
     }
 
-    /**
-     * Fast floor implementation for chunk calculations
-     */
-    private int fastFloor(float value) {
-        int i = (int) value;
-        return value < i ? i - 1 : i;
-    }
-
     /**
      * Updates blocks at chunk boundaries
      */
     private void updateNeighboringChunks(Vector3f position, Vector3f chunkPos) {
-        float localX = position.x() - chunkPos.x() * CHUNK_SIZE;
-        float localY = position.y() - chunkPos.y() * CHUNK_SIZE;
-        float localZ = position.z() - chunkPos.z() * CHUNK_SIZE;
+        int localX = blockX(position) & CHUNK_MASK;
+        int localY = blockY(position) & CHUNK_MASK;
+        int localZ = blockZ(position) & CHUNK_MASK;
 
         if (localX == 0) updateNeighborChunk((int)chunkPos.x() - 1, (int)chunkPos.y(), (int)chunkPos.z());
         if (localX == CHUNK_SIZE - 1) updateNeighborChunk((int)chunkPos.x() + 1, (int)chunkPos.y(), (int)chunkPos.z());
@@ -342,29 +945,7 @@ public class World implements EventListener {
      * Updates single neighboring chunk
      */
     private void updateNeighborChunk(int x, int y, int z) {
-        Vector3f neighborPos = new Vector3f(x, y, z);
-        chunks.stream()
-            .filter(c -> c.getPosition().equals(neighborPos))
-            .findFirst()
-            .ifPresent(this::updateChunkBlockFaces);
-    }
-
-    /**
-     * Updates faces of blocks adjacent to modified block
-     */
-    private void updateAdjacentBlockFaces(Vector3f position) {
-        Vector3f[] adjacentPositions = {
-            new Vector3f(position.x() + 1, position.y(), position.z()),
-            new Vector3f(position.x() - 1, position.y(), position.z()),
-            new Vector3f(position.x(), position.y() + 1, position.z()),
-            new Vector3f(position.x(), position.y() - 1, position.z()),
-            new Vector3f(position.x(), position.y(), position.z() + 1),
-            new Vector3f(position.x(), position.y(), position.z() - 1)
-        };
-
-        for (Vector3f adjacentPos : adjacentPositions) {
-            Optional.ofNullable(getBlock(adjacentPos)).ifPresent(block -> block.updateVisibleFaces(this));
-        }
+        Optional.ofNullable(chunks.get(x, y, z)).ifPresent(this::updateChunkBlockFaces);
     }
 
     /**
@@ -372,13 +953,11 @@ public class World implements EventListener {
      */
     public void placeBlock(Vector3f position, BlockType type) {
         Vector3f chunkPos = calculateChunkCoordinates(position);
-        chunks.stream()
-            .filter(c -> c.getPosition().equals(chunkPos))
-            .findFirst()
+        Optional.ofNullable(getOrAllocateChunk(chunkPos))
             .ifPresent(chunk -> {
-                AbstractBlock newBlock = BlockFactory.createBlock(type, position);
-                chunk.setBlock(newBlock);
-                newBlock.onPlace(this); // Add this
+                chunk.setBlock(position, type);
+                raiseSurfaceHeight(blockX(position), blockY(position), blockZ(position));
+                BlockFactory.getBlock(type).onPlace(this, blockX(position), blockY(position), blockZ(position));
                 updateChunkBlockFaces(chunk);
                 updateNeighboringChunks(position, chunkPos);
                 modifiedBlocks.put(position, type);
@@ -391,24 +970,200 @@ public class World implements EventListener {
      */
     public void destroyBlock(Vector3f position) {
         Vector3f chunkPos = calculateChunkCoordinates(position);
-        chunks.stream()
-            .filter(c -> c.getPosition().equals(chunkPos))
-            .findFirst()
+        Optional.ofNullable(chunks.get(chunkPos))
             .ifPresent(chunk -> {
                 AbstractBlock block = chunk.getBlock(position);
                 if (block != null) {
-                    block.onBreak(this); // Add this
+                    block.onBreak(this, blockX(position), blockY(position), blockZ(position));
                 }
-                updateAdjacentBlockFaces(position);
                 chunk.removeBlock(position);
+                lowerSurfaceHeight(blockX(position), blockY(position), blockZ(position));
                 updateChunkBlockFaces(chunk);
                 updateNeighboringChunks(position, chunkPos);
             });
 
+        // Drop transient state of removed block
+        long key = blockKey(blockX(position), blockY(position), blockZ(position));
+        breakProgress.remove(key);
+        highlightedBlocks.remove(key);
+
         // Mark block as removed in modifications
         modifiedBlocks.put(new Vector3f(position), null);
     }
 
+    /**
+     * Gets loaded chunk, allocating it if the section was loaded empty
+     */
+    private Chunk getOrAllocateChunk(Vector3f chunkPos) {
+        Chunk chunk = chunks.get(chunkPos);
+        if (chunk != null) {
+            return chunk;
+        }
+
+        ChunkColumn column = columns.get(columnKey((int) chunkPos.x(), (int) chunkPos.z()));
+        if (column == null || !column.isEmptySection((int) chunkPos.y())) {
+            return null;
+        }
+        chunk = new Chunk(new Vector3f(chunkPos));
+        Chunk existing = chunks.addIfAbsent(chunk);
+        if (existing != null) {
+            chunk.release();
+            return existing;
+        }
+        column.addSection(chunk);
+        return chunk;
+    }
+
+    /**
+     * Gets Y of the highest block at world X/Z
+     *
+     * @return Surface height, or Integer.MIN_VALUE if the column is not loaded
+     */
+    public int getSurfaceHeight(int x, int z) {
+        ChunkColumn column = columns.get(columnKey(x >> CHUNK_SHIFT, z >> CHUNK_SHIFT));
+        return column != null ? column.getHeight(x & CHUNK_MASK, z & CHUNK_MASK) : Integer.MIN_VALUE;
+    }
+
+    /**
+     * Updates column heightmap after block placement
+     */
+    private void raiseSurfaceHeight(int x, int y, int z) {
+        ChunkColumn column = columns.get(columnKey(x >> CHUNK_SHIFT, z >> CHUNK_SHIFT));
+        if (column != null && y > column.getHeight(x & CHUNK_MASK, z & CHUNK_MASK)) {
+            column.setHeight(x & CHUNK_MASK, z & CHUNK_MASK, y);
+        }
+    }
+
+    /**
+     * Updates column heightmap after block removal.
+     * Scans down through loaded sections, unloaded ones are assumed solid.
+     */
+    private void lowerSurfaceHeight(int x, int y, int z) {
+        ChunkColumn column = columns.get(columnKey(x >> CHUNK_SHIFT, z >> CHUNK_SHIFT));
+        if (column == null || column.getHeight(x & CHUNK_MASK, z & CHUNK_MASK) != y) {
+            return;
+        }
+
+        int height = y - 1;
+        while (column.isSectionLoaded(height >> CHUNK_SHIFT)) {
+            if (column.isEmptySection(height >> CHUNK_SHIFT)) {
+                // Skip whole empty section
+                height = ((height >> CHUNK_SHIFT) << CHUNK_SHIFT) - 1;
+            } else if (hasBlock(x, height, z)) {
+                break;
+            } else {
+                height--;
+            }
+        }
+        column.setHeight(x & CHUNK_MASK, z & CHUNK_MASK, height);
+    }
+
+    /**
+     * Packs column coordinates into column map key
+     */
+    private static long columnKey(int chunkX, int chunkZ) {
+        return ChunkRegistry.pack(chunkX, 0, chunkZ);
+    }
+
+    /**
+     * Gets break progress of block, 0 if not being broken
+     */
+    public float getBreakProgress(PlacedBlock block) {
+        return breakProgress.getOrDefault(blockKey(block.x(), block.y(), block.z()), 0.0f);
+    }
+
+    /**
+     * Sets break progress of block, clearing the entry at 0
+     */
+    public void setBreakProgress(PlacedBlock block, float progress) {
+        long key = blockKey(block.x(), block.y(), block.z());
+        if (progress > 0) {
+            breakProgress.put(key, progress);
+        } else {
+            breakProgress.remove(key);
+        }
+    }
+
+    /**
+     * Checks if block is highlighted as the player's target
+     */
+    public boolean isHighlighted(PlacedBlock block) {
+        return highlightedBlocks.contains(blockKey(block.x(), block.y(), block.z()));
+    }
+
+    /**
+     * Sets selection highlight of block
+     */
+    public void setHighlighted(PlacedBlock block, boolean highlighted) {
+        long key = blockKey(block.x(), block.y(), block.z());
+        if (highlighted) {
+            highlightedBlocks.add(key);
+        } else {
+            highlightedBlocks.remove(key);
+        }
+    }
+
+    /**
+     * Gets timer tracked for block, or null if none
+     */
+    public Float getBlockTimer(int x, int y, int z) {
+        Chunk chunk = getChunkAt(x, y, z);
+        return chunk != null ? chunk.getBlockTimer(x, y, z) : null;
+    }
+
+    /**
+     * Starts or updates timer tracked for block
+     */
+    public void setBlockTimer(int x, int y, int z, float value) {
+        Optional.ofNullable(getChunkAt(x, y, z)).ifPresent(chunk -> chunk.setBlockTimer(x, y, z, value));
+    }
+
+    /**
+     * Stops tracking timer for block
+     */
+    public void clearBlockTimer(int x, int y, int z) {
+        Optional.ofNullable(getChunkAt(x, y, z)).ifPresent(chunk -> chunk.clearBlockTimer(x, y, z));
+    }
+
+    /**
+     * Checks that configured chunk size supports shift-based coordinate math
+     */
+    private static int validateChunkSize(int size) {
+        if (!GameConfig.isValidChunkSize(size)) {
+            throw new IllegalStateException("Chunk size must be a power of two between "
+                + GameConfig.MIN_CHUNK_SIZE + " and " + GameConfig.MAX_CHUNK_SIZE + ": " + size);
+        }
+        return size;
+    }
+
+    /**
+     * Gets number of loaded chunks
+     */
+    public int getLoadedChunkCount() {
+        return chunks.size();
+    }
+
+    /**
+     * Packs block coordinates into side table key.
+     * Block coordinates fit the same 21-bit packing as chunk coordinates.
+     */
+    private static long blockKey(int x, int y, int z) {
+        return ChunkRegistry.pack(x, y, z);
+    }
+
+    /** Block coordinates containing world position */
+    private static int blockX(Vector3f position) {
+        return (int) Math.floor(position.x());
+    }
+
+    private static int blockY(Vector3f position) {
+        return (int) Math.floor(position.y());
+    }
+
+    private static int blockZ(Vector3f position) {
+        return (int) Math.floor(position.z());
+    }
+
     /**
      * Returns modified blocks map for world saving
      */
@@ -423,11 +1178,31 @@ public class World implements EventListener {
         return seed;
     }
 
+    /**
+     * Returns noise algorithm the world is generated with
+     */
+    public NoiseType getNoiseType() {
+        return noiseType;
+    }
+
+    /**
+     * Returns cave sampling mode the world is generated with
+     */
+    public CaveSampling getCaveSampling() {
+        return caveSampling;
+    }
+
     /**
      * Cleans up resources used by world systems
      */
     public void cleanup() {
         chunkLoader.shutdown();
+        chunks.removeIf(chunk -> true).forEach(Chunk::release);
+        chunkCache.clear();
+        heightmapCache.clear();
+        if (chunkStore != null) {
+            chunkStore.clear();
+        }
     }
 
     /**
@@ -474,19 +1249,18 @@ public class World implements EventListener {
         Vector3f playerChunkPos = calculateChunkCoordinates(playerPos);
         int updateRadius = 2; // Only update blocks in nearby chunks
 
-        synchronized(chunksLock) {
-            for (Chunk chunk : chunks) {
-                // Skip chunks too far from player
-                if (isChunkTooFar(chunk.getPosition(), playerChunkPos, updateRadius)) {
-                    continue;
-                }
+        for (Chunk chunk : chunks) {
+            // Skip chunks too far from player
+            if (isChunkTooFar(chunk.getPosition(), playerChunkPos, updateRadius)) {
+                continue;
+            }
 
-                // Update only a subset of blocks each cycle
-                List<AbstractBlock> blocks = new ArrayList<>(chunk.getBlocks());
-                for (int i = 0; i < Math.min(blocks.size(), 10); i++) {
-                    int index = (updateCounter + i) % blocks.size();
-                    blocks.get(index).onUpdate(this);
-                }
+            // Update only a subset of blocks each cycle
+            List<PlacedBlock> blocks = chunk.getSurfaceBlocks();
+            for (int i = 0; i < Math.min(blocks.size(), 10); i++) {
+                int index = (updateCounter + i) % blocks.size();
+                PlacedBlock block = blocks.get(index);
+                block.block().onUpdate(this, block.x(), block.y(), block.z());
             }
         }
     }
@@ -506,12 +1280,27 @@ public class World implements EventListener {
     }
 
     public void updateBlocks() {
-        synchronized(chunksLock) {
-            for (Chunk chunk : chunks) {
-                for (AbstractBlock block : chunk.getBlocks()) {
-                    block.onUpdate(this);
-                }
+        for (Chunk chunk : chunks) {
+            for (PlacedBlock block : chunk.getSurfaceBlocks()) {
+                block.block().onUpdate(this, block.x(), block.y(), block.z());
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Cave noise of one chunk for layers from minY up, indexed like chunk voxels.
+     */
+    private record CaveSamples(int minY, double[] values) {
+        double get(int localX, int worldY, int localZ) {
+            return values[((((worldY - minY) << CHUNK_SHIFT) | localZ) << CHUNK_SHIFT) | localX];
+        }
+    }
+
+    /**
+     * Callback for chunk coordinates
+     */
+    @FunctionalInterface
+    private interface ChunkVisitor {
+        void visit(int chunkX, int chunkY, int chunkZ);
+    }
+}
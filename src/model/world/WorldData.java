@@ -1,15 +1,15 @@
 package model.world;
 
 /**
- * Stores basic metadata about a saved world including name and generation seed
+ * Stores basic metadata about a saved world including name, generation seed, noise algorithm and cave sampling
  * Immutable record used for world management and loading
  */
-public record WorldData(String name, long seed) {
+public record WorldData(String name, long seed, NoiseType noise, CaveSampling caveSampling) {
     /**
      * Formats world data for display in user interface
      */
     @Override
     public String toString() {
-        return name + "\nSeed: " + seed;
+        return name + "\nSeed: " + seed + "\nNoise: " + noise + "\nCaves: " + caveSampling;
     }
 }
\ No newline at end of file
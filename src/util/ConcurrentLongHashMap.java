@@ -0,0 +1,141 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+/**
+ * Thread-safe map with primitive long keys.
+ * Wraps a {@link LongHashMap} with a stamped lock: lookups are optimistic
+ * and only fall back to a read lock when a write overlapped them, writes
+ * take the exclusive lock. Null values are not allowed.
+ *
+ * @param <V> Value type
+ */
+public class ConcurrentLongHashMap<V> {
+    private final LongHashMap<V> map = new LongHashMap<>();
+    private final StampedLock lock = new StampedLock();
+
+
+    /**
+     * Gets value mapped to key.
+     *
+     * @return Mapped value, or {@code null} if absent
+     */
+    public V get(long key) {
+        long stamp = lock.tryOptimisticRead();
+        V value = map.get(key);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = map.get(key);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    /** Whether key has a mapping */
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Maps key to value, replacing any previous mapping.
+     *
+     * @return Previous value, or {@code null} if none
+     */
+    public V put(long key, V value) {
+        long stamp = lock.writeLock();
+        try {
+            return map.put(key, value);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Maps key to value unless already mapped.
+     *
+     * @return Existing value, or {@code null} if value was added
+     */
+    public V putIfAbsent(long key, V value) {
+        long stamp = lock.writeLock();
+        try {
+            V existing = map.get(key);
+            if (existing == null) {
+                map.put(key, value);
+            }
+            return existing;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes mapping for key.
+     *
+     * @return Removed value, or {@code null} if absent
+     */
+    public V remove(long key) {
+        long stamp = lock.writeLock();
+        try {
+            return map.remove(key);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes all entries whose value matches predicate.
+     * The predicate runs under the write lock and must not access this map.
+     *
+     * @return Removed values
+     */
+    public List<V> removeIf(Predicate<? super V> filter) {
+        List<V> removed = new ArrayList<>();
+        long stamp = lock.writeLock();
+        try {
+            map.removeIf(value -> {
+                if (filter.test(value)) {
+                    removed.add(value);
+                    return true;
+                }
+                return false;
+            });
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return removed;
+    }
+
+    /** Gets number of entries */
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return map.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Copies current values.
+     *
+     * @return Values at time of call, later changes are not reflected
+     */
+    public List<V> values() {
+        long stamp = lock.readLock();
+        try {
+            List<V> values = new ArrayList<>(map.size());
+            for (V value : map) {
+                values.add(value);
+            }
+            return values;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Open-addressing hash map with primitive long keys.
+ * Uses linear probing and backward-shift deletion, so lookups never box
+ * keys and removals leave no tombstones behind. Null values are not allowed.
+ * Not thread-safe, but {@link #get} never fails when racing a writer, so it can
+ * back optimistic reads that are validated afterwards.
+ *
+ * @see ConcurrentLongHashMap
+ * @param <V> Value type
+ */
+public class LongHashMap<V> implements Iterable<V> {
+    /** Maximum fill ratio before the table doubles */
+    private static final float LOAD_FACTOR = 0.5f;
+    private static final int DEFAULT_CAPACITY = 64;
+
+    /** Table state, a slot is free when its value is null */
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+
+    /** Creates empty map with default capacity */
+    public LongHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates empty map sized for expected entry count.
+     *
+     * @param expectedSize Number of entries to hold without resizing
+     */
+    public LongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Gets value mapped to key.
+     * A concurrent writer can make the result stale but never makes this fail.
+     *
+     * @return Mapped value, or {@code null} if absent
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        // Read arrays once, a concurrent rehash may replace them between reads
+        long[] keys = this.keys;
+        Object[] values = this.values;
+        int mask = Math.min(keys.length, values.length) - 1;
+
+        int slot = hash(key) & mask;
+        for (int probes = 0; probes <= mask; probes++) {
+            Object value = values[slot];
+            if (value == null) {
+                return null;
+            }
+            if (keys[slot] == key) {
+                return (V) value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /** Whether key has a mapping */
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Maps key to value, replacing any previous mapping.
+     *
+     * @return Previous value, or {@code null} if none
+     * @throws IllegalArgumentException if value is null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null values are not supported");
+        }
+
+        int slot = hash(key) & mask;
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeThreshold) {
+            rehash(values.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Removes mapping for key.
+     *
+     * @return Removed value, or {@code null} if absent
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int slot = hash(key) & mask;
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                shiftBack(slot);
+                size--;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Removes all entries whose value matches predicate.
+     *
+     * @return Number of removed entries
+     */
+    @SuppressWarnings("unchecked")
+    public int removeIf(Predicate<? super V> filter) {
+        // Collect first, deletion shifts entries across the scan position
+        List<Long> doomed = new ArrayList<>();
+        for (int slot = 0; slot < values.length; slot++) {
+            if (values[slot] != null && filter.test((V) values[slot])) {
+                doomed.add(keys[slot]);
+            }
+        }
+        doomed.forEach(this::remove);
+        return doomed.size();
+    }
+
+    /** Gets number of entries */
+    public int size() {
+        return size;
+    }
+
+    /** Whether map has no entries */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Removes all entries */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Iterates over values in table order.
+     * The map must not be modified during iteration.
+     */
+    @Override
+    public Iterator<V> iterator() {
+        return new Iterator<>() {
+            private int slot = advance(0);
+
+            private int advance(int from) {
+                while (from < values.length && values[from] == null) {
+                    from++;
+                }
+                return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return slot < values.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public V next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                V value = (V) values[slot];
+                slot = advance(slot + 1);
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Closes the gap left by a removed slot by moving later
+     * entries of the same probe run back.
+     */
+    private void shiftBack(int gap) {
+        int slot = gap;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (values[slot] == null) {
+                break;
+            }
+
+            // Entry may move only if its home slot is not between gap and slot
+            int home = hash(keys[slot]) & mask;
+            boolean movable = gap <= slot ? (home <= gap || home > slot) : (home <= gap && home > slot);
+            if (movable) {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+        }
+        values[gap] = null;
+    }
+
+    /**
+     * Moves all entries into table of new capacity.
+     */
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = hash(oldKeys[i]) & mask;
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Allocates empty table arrays.
+     */
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Spreads key bits so packed coordinates hash evenly.
+     */
+    private static int hash(long key) {
+        // MurmurHash3 finalizer, high coordinate bits must reach the low table bits
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -2,6 +2,7 @@ package util;
 
 import java.util.LinkedList;
 import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Tracks performance metrics for render-time analysis and optimization
@@ -21,6 +22,24 @@ public class PerformanceMetrics {
     private static long lastSecond = System.currentTimeMillis();
     private static int fps = 0;
 
+    /** Chunk cache lookups, counted by generator threads */
+    private static final AtomicLong chunkCacheHits = new AtomicLong();
+    private static final AtomicLong chunkCacheMisses = new AtomicLong();
+
+    /** Time from world creation to the first frame showing the whole load area */
+    private static long worldLoadStart = 0;
+    private static long timeToFirstFrame = -1;
+
+    /** Time from chunk request to integration, measured by the game thread */
+    private static long chunkLoads = 0;
+    private static long chunkLoadLatencyTotal = 0;
+    private static long chunkLoadLatencyMax = 0;
+
+    /** Chunk load requests, made by the game thread */
+    private static long chunkRequests = 0;
+    private static long duplicateChunkRequests = 0;
+    private static long cancelledChunkRequests = 0;
+
 
     /**
      * Initializes frame timing and resets counters
@@ -86,6 +105,124 @@ public class PerformanceMetrics {
         culledBlocks += culled;
     }
 
+    /**
+     * Records chunk restored from the unload cache
+     */
+    public static void logCacheHit() {
+        chunkCacheHits.incrementAndGet();
+    }
+
+    /**
+     * Records chunk that had to be generated because it was not cached
+     */
+    public static void logCacheMiss() {
+        chunkCacheMisses.incrementAndGet();
+    }
+
+    /** Gets total chunk cache hits */
+    public static long getCacheHits() {
+        return chunkCacheHits.get();
+    }
+
+    /** Gets total chunk cache misses */
+    public static long getCacheMisses() {
+        return chunkCacheMisses.get();
+    }
+
+    /**
+     * Records time from a chunk request until the chunk was taken for integration
+     * @param nanos Latency in nanoseconds
+     */
+    public static void logChunkLoadLatency(long nanos) {
+        chunkLoads++;
+        chunkLoadLatencyTotal += nanos;
+        chunkLoadLatencyMax = Math.max(chunkLoadLatencyMax, nanos);
+    }
+
+    /**
+     * Resets chunk load latency statistics
+     */
+    public static void resetChunkLoadLatency() {
+        chunkLoads = 0;
+        chunkLoadLatencyTotal = 0;
+        chunkLoadLatencyMax = 0;
+    }
+
+    /** Gets number of chunks taken for integration */
+    public static long getChunkLoads() {
+        return chunkLoads;
+    }
+
+    /** Gets average chunk load latency in nanoseconds */
+    public static long getAverageChunkLoadLatency() {
+        return chunkLoads > 0 ? chunkLoadLatencyTotal / chunkLoads : 0;
+    }
+
+    /** Gets highest chunk load latency in nanoseconds */
+    public static long getMaxChunkLoadLatency() {
+        return chunkLoadLatencyMax;
+    }
+
+    /**
+     * Records chunk load request handed to the loader
+     */
+    public static void logChunkRequest() {
+        chunkRequests++;
+    }
+
+    /**
+     * Records chunk load request suppressed because one is already in flight
+     */
+    public static void logDuplicateChunkRequest() {
+        duplicateChunkRequests++;
+    }
+
+    /**
+     * Records chunk load request cancelled before it was generated
+     */
+    public static void logCancelledChunkRequest() {
+        cancelledChunkRequests++;
+    }
+
+    /** Gets total chunk load requests */
+    public static long getChunkRequests() {
+        return chunkRequests;
+    }
+
+    /** Gets total suppressed duplicate chunk load requests */
+    public static long getDuplicateChunkRequests() {
+        return duplicateChunkRequests;
+    }
+
+    /** Gets total cancelled chunk load requests */
+    public static long getCancelledChunkRequests() {
+        return cancelledChunkRequests;
+    }
+
+    /**
+     * Starts timing world loading, called when the game model is created
+     */
+    public static void startWorldLoad() {
+        worldLoadStart = System.nanoTime();
+        timeToFirstFrame = -1;
+    }
+
+    /**
+     * Records a rendered frame whose load area was complete.
+     * Only the first such frame after world creation is kept, and reported once.
+     */
+    public static void logCompleteFrame() {
+        if (timeToFirstFrame < 0 && worldLoadStart != 0) {
+            timeToFirstFrame = System.nanoTime() - worldLoadStart;
+            System.out.printf("Time to first complete frame: %.1fms%n", timeToFirstFrame / 1_000_000.0);
+        }
+    }
+
+    /** Gets time to first complete frame in nanoseconds, or -1 if not reached yet */
+    public static long getTimeToFirstFrame() {
+        return timeToFirstFrame;
+    }
+
     /**
      * Formats current metrics into human-readable string
      * Includes FPS, frame time, chunk and block statistics
@@ -99,13 +236,17 @@ public class PerformanceMetrics {
         return String.format(
             "FPS: %d (%.2fms/frame) | " +
                     "Chunks: %d/%d (%.1f%% culled) | " +
-                    "Blocks: %d/%d (%.1f%% culled, %.1f%% occluded)",
+                    "Blocks: %d/%d (%.1f%% culled, %.1f%% occluded) | " +
+                    "Chunk cache: %d hits, %d misses | " +
+                    "Chunk requests: %d (%d duplicates suppressed, %d cancelled)",
             fps, avgFrameTime,
             totalChunks - culledChunks, totalChunks,
             (culledChunks * 100f) / Math.max(1, totalChunks),
             renderedBlocks, totalBlocks,
             ((totalBlocks - renderedBlocks) * 100f) / Math.max(1, totalBlocks),
-            (occludedBlocks * 100f) / Math.max(1, totalBlocks)
+            (occludedBlocks * 100f) / Math.max(1, totalBlocks),
+            chunkCacheHits.get(), chunkCacheMisses.get(),
+            chunkRequests, duplicateChunkRequests, cancelledChunkRequests
         );
     }
 }
\ No newline at end of file
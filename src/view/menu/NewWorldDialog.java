@@ -1,8 +1,11 @@
 package view.menu;
 
+import config.GameConfig;
 import controller.event.EventBus;
 import controller.event.MenuEvent;
 import model.save.WorldManager;
+import model.world.CaveSampling;
+import model.world.NoiseType;
 import model.world.WorldData;
 
 import javax.swing.*;
@@ -13,7 +16,7 @@ import java.awt.event.KeyEvent;
 import java.util.Random;
 
 /**
- * Dialog for creating new worlds with customizable name and seed
+ * Dialog for creating new worlds with customizable name, seed and noise algorithm
  * Provides input validation and styled UI components following the game's visual theme
  */
 public class NewWorldDialog extends JDialog {
@@ -26,6 +29,9 @@ public class NewWorldDialog extends JDialog {
     /** Input field for world name */
     private final JTextField nameField;
 
+    /** Selector for terrain noise algorithm */
+    private final JComboBox<NoiseType> noiseBox;
+
     /** UI theme colors */
     private static final Color BACKGROUND_COLOR = new Color(24, 20, 37);
     private static final Color BUTTON_COLOR = new Color(65, 65, 65);
@@ -37,7 +43,7 @@ public class NewWorldDialog extends JDialog {
 
 
     /**
-     * Creates dialog with name/seed inputs and validation
+     * Creates dialog with name/seed/noise inputs and validation
      */
     public NewWorldDialog(Frame parent) {
         super(parent, "New World", true);
@@ -59,6 +65,10 @@ public class NewWorldDialog extends JDialog {
         seedField = new JTextField(String.valueOf(seed), 20);
         addSeedSection(mainPanel, gbc);
 
+        // Add noise algorithm section
+        noiseBox = new JComboBox<>(NoiseType.values());
+        addNoiseSection(mainPanel, gbc);
+
         // Add action buttons
         addButtonSection(mainPanel, gbc);
 
@@ -161,6 +171,34 @@ public class NewWorldDialog extends JDialog {
         panel.add(seedPanel, gbc);
     }
 
+    /**
+     * Adds noise algorithm selector with label
+     */
+    private void addNoiseSection(JPanel panel, GridBagConstraints gbc) {
+        JPanel noisePanel = new JPanel(new GridBagLayout());
+        noisePanel.setOpaque(false);
+
+        JLabel noiseLabel = new JLabel("Noise:");
+        noiseLabel.setFont(MAIN_FONT);
+        noiseLabel.setForeground(TEXT_COLOR);
+
+        noiseBox.setFont(MAIN_FONT);
+        noiseBox.setForeground(TEXT_COLOR);
+        noiseBox.setBackground(new Color(40, 40, 40));
+        noiseBox.setSelectedItem(NoiseType.PERLIN);
+
+        // Add components to noise panel
+        GridBagConstraints noiseGbc = new GridBagConstraints();
+        noiseGbc.insets = new Insets(5, 5, 5, 5);
+        noisePanel.add(noiseLabel, noiseGbc);
+        noiseGbc.gridx = 1;
+        noiseGbc.weightx = 1;
+        noiseGbc.fill = GridBagConstraints.HORIZONTAL;
+        noisePanel.add(noiseBox, noiseGbc);
+
+        panel.add(noisePanel, gbc);
+    }
+
     /**
      * Adds action buttons section
      */
@@ -315,7 +353,9 @@ public class NewWorldDialog extends JDialog {
 
             // Create world and close dialog
             seed = Long.parseLong(seedText);
-            EventBus.getInstance().post(MenuEvent.startGame(worldName, seed));
+            NoiseType noise = (NoiseType) noiseBox.getSelectedItem();
+            CaveSampling caveSampling = CaveSampling.parse(GameConfig.CAVE_SAMPLING);
+            EventBus.getInstance().post(MenuEvent.startGame(worldName, seed, noise, caveSampling));
             dispose();
 
         } catch (NumberFormatException ex) {
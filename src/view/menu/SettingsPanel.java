@@ -54,6 +54,7 @@ public class SettingsPanel extends JPanel {
 
         // Add setting fields
         addSettingField(settingsContainer, "Render Distance", "RENDER_DISTANCE", gbc);
+        addSettingField(settingsContainer, "Vertical Distance", "VERTICAL_RENDER_DISTANCE", gbc);
         addSettingField(settingsContainer, "Mouse Sensitivity", "CAMERA_MOUSE_SENSITIVITY", gbc);
         addSettingField(settingsContainer, "Movement Speed", "CAMERA_MOVE_SPEED", gbc);
 
@@ -125,6 +126,7 @@ public class SettingsPanel extends JPanel {
      */
     public void loadCurrentSettings() {
         settingsFields.get("RENDER_DISTANCE").setText(String.valueOf(GameConfig.RENDER_DISTANCE));
+        settingsFields.get("VERTICAL_RENDER_DISTANCE").setText(String.valueOf(GameConfig.VERTICAL_RENDER_DISTANCE));
         settingsFields.get("CAMERA_MOUSE_SENSITIVITY").setText(String.valueOf(GameConfig.CAMERA_MOUSE_SENSITIVITY));
         settingsFields.get("CAMERA_MOVE_SPEED").setText(String.valueOf(GameConfig.CAMERA_MOVE_SPEED));
     }
@@ -136,6 +138,7 @@ public class SettingsPanel extends JPanel {
         try {
             // Parse and update settings
             GameConfig.RENDER_DISTANCE = Integer.parseInt(settingsFields.get("RENDER_DISTANCE").getText());
+            GameConfig.VERTICAL_RENDER_DISTANCE = Integer.parseInt(settingsFields.get("VERTICAL_RENDER_DISTANCE").getText());
             GameConfig.CAMERA_MOUSE_SENSITIVITY = Float.parseFloat(settingsFields.get("CAMERA_MOUSE_SENSITIVITY").getText());
             GameConfig.CAMERA_MOVE_SPEED = Float.parseFloat(settingsFields.get("CAMERA_MOVE_SPEED").getText());
 
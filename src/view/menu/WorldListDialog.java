@@ -94,7 +94,8 @@ public class WorldListDialog extends JDialog {
             selectedWorld = worldList.getSelectedValue();
             if (selectedWorld != null) {
                 setVisible(false);
-                EventBus.getInstance().post(MenuEvent.startGame(selectedWorld.name(), selectedWorld.seed()));
+                EventBus.getInstance().post(MenuEvent.startGame(
+                    selectedWorld.name(), selectedWorld.seed(), selectedWorld.noise(), selectedWorld.caveSampling()));
             } else {
                 JOptionPane.showMessageDialog(this,
                     "Please select a world to load.",
@@ -5,7 +5,6 @@ import model.block.*;
 import model.player.Camera;
 import model.world.*;
 import org.joml.Matrix4f;
-import org.joml.Vector3f;
 import org.lwjgl.opengl.GL11;
 import org.lwjgl.opengl.GL20;
 import util.PerformanceMetrics;
@@ -107,7 +106,7 @@ public class MasterRenderer implements WorldRenderer {
      */
     public void onEvent(GameEvent event) {
         if (event instanceof RenderEvent renderEvent) {
-            render(renderEvent.abstractBlocks(), renderEvent.camera(), renderEvent.world());
+            render(renderEvent.blocks(), renderEvent.camera(), renderEvent.world());
             renderEvent.world().update(renderEvent.camera().getPosition(), projectionViewMatrix);
         }
     }
@@ -116,7 +115,7 @@ public class MasterRenderer implements WorldRenderer {
      * Renders complete frame including world, effects and HUD
      */
     @Override
-    public void render(List<AbstractBlock> abstractBlocks, Camera camera, World world) {
+    public void render(List<PlacedBlock> blocks, Camera camera, World world) {
         updateProjectionMatrix();
         prepareFrame();
 
@@ -124,9 +123,9 @@ public class MasterRenderer implements WorldRenderer {
         updateProjectionView(viewMatrix);
         float ambientLight = world.getDayNightCycle().getAmbientLight();
 
-        renderBreakingEffects(abstractBlocks, viewMatrix, ambientLight);
-        renderBlocks(abstractBlocks, viewMatrix, ambientLight);
-        renderHighlights(abstractBlocks, viewMatrix);
+        renderBreakingEffects(blocks, world, viewMatrix, ambientLight);
+        renderBlocks(blocks, viewMatrix, ambientLight);
+        renderHighlights(blocks, world, viewMatrix);
         renderHUD();
     }
 
@@ -149,14 +148,14 @@ public class MasterRenderer implements WorldRenderer {
     /**
      * Renders blocks with breaking animation
      */
-    private void renderBreakingEffects(List<AbstractBlock> abstractBlocks, Matrix4f viewMatrix, float ambientLight) {
+    private void renderBreakingEffects(List<PlacedBlock> blocks, World world, Matrix4f viewMatrix, float ambientLight) {
         breakingShader.start();
         setupBreakingShader(viewMatrix, ambientLight);
 
         GL11.glEnable(GL11.GL_BLEND);
         GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
 
-        renderBreakingBlocks(abstractBlocks);
+        renderBreakingBlocks(blocks, world);
 
         breakingShader.stop();
         GL11.glDisable(GL11.GL_BLEND);
@@ -175,10 +174,11 @@ public class MasterRenderer implements WorldRenderer {
     /**
      * Renders blocks with active break progress
      */
-    private void renderBreakingBlocks(List<AbstractBlock> abstractBlocks) {
-        for (AbstractBlock abstractBlock : abstractBlocks) {
-            if (abstractBlock.getBreakProgress() > 0) {
-                renderBreakingBlock(abstractBlock);
+    private void renderBreakingBlocks(List<PlacedBlock> blocks, World world) {
+        for (PlacedBlock block : blocks) {
+            float breakProgress = world.getBreakProgress(block);
+            if (breakProgress > 0) {
+                renderBreakingBlock(block, breakProgress);
             }
         }
     }
@@ -186,13 +186,13 @@ public class MasterRenderer implements WorldRenderer {
     /**
      * Renders single breaking block effect
      */
-    private void renderBreakingBlock(AbstractBlock abstractBlock) {
+    private void renderBreakingBlock(PlacedBlock block, float breakProgress) {
         BatchedMesh breakMesh = new BatchedMesh();
-        breakMesh.addBlockMesh(abstractBlock.getVertices(), abstractBlock.getIndices(), 0, abstractBlock.getLightLevel());
+        breakMesh.addBlockMesh(block.getVertices(), block.getIndices(), 0, block.getLightLevel());
         breakMesh.updateGLBuffers();
 
-        textureManager.bindTexture(blockTextureIds.get(abstractBlock.getType()), 0);
-        GL20.glUniform1f(GL20.glGetUniformLocation(breakingShader.getProgramID(), "breakProgress"), abstractBlock.getBreakProgress());
+        textureManager.bindTexture(blockTextureIds.get(block.getType()), 0);
+        GL20.glUniform1f(GL20.glGetUniformLocation(breakingShader.getProgramID(), "breakProgress"), breakProgress);
 
         breakMesh.render();
         breakMesh.cleanup();
@@ -201,14 +201,14 @@ public class MasterRenderer implements WorldRenderer {
     /**
      * Renders world blocks with batching
      */
-    private void renderBlocks(List<AbstractBlock> abstractBlocks, Matrix4f viewMatrix, float ambientLight) {
+    private void renderBlocks(List<PlacedBlock> blocks, Matrix4f viewMatrix, float ambientLight) {
         blockShader.start();
         setupBlockShader(viewMatrix, ambientLight);
         ensureBlockTextures();
 
-        Map<BlockType, List<AbstractBlock>> blocksByType = abstractBlocks.stream()
+        Map<BlockType, List<PlacedBlock>> blocksByType = blocks.stream()
             .filter(this::isBlockInView)
-            .collect(Collectors.groupingBy(AbstractBlock::getType));
+            .collect(Collectors.groupingBy(PlacedBlock::getType));
 
         renderBlockBatches(blocksByType);
         System.out.println(PerformanceMetrics.getMetricsString());
@@ -228,12 +228,11 @@ public class MasterRenderer implements WorldRenderer {
 
     /**
      * Checks if block is within view frustum
-     * @param abstractBlock Block to check visibility
+     * @param block Block to check visibility
      * @return true if block is in view frustum
      */
-    private boolean isBlockInView(AbstractBlock abstractBlock) {
-        Vector3f pos = abstractBlock.getPosition();
-        return frustum.isBoxInFrustum(pos.x(), pos.y(), pos.z(), 1.0f);
+    private boolean isBlockInView(PlacedBlock block) {
+        return frustum.isBoxInFrustum(block.x(), block.y(), block.z(), 1.0f);
     }
 
     /**
@@ -242,10 +241,7 @@ public class MasterRenderer implements WorldRenderer {
     private void ensureBlockTextures() {
         for (BlockType type : BlockType.values()) {
             if (!blockTextureIds.containsKey(type)) {
-                // Create a temporary block just once for each type to get its texture path
-                Vector3f tempPos = new Vector3f(0, 0, 0);
-                AbstractBlock block = BlockFactory.createBlock(type, tempPos);
-                String texturePath = block.getTexturePath();
+                String texturePath = BlockFactory.getBlock(type).getTexturePath();
                 blockTextureIds.put(type, textureManager.loadTexture(texturePath));
             }
         }
@@ -254,20 +250,21 @@ public class MasterRenderer implements WorldRenderer {
     /**
      * Renders batched blocks by type
      */
-    private void renderBlockBatches(Map<BlockType, List<AbstractBlock>> blocksByType) {
+    private void renderBlockBatches(Map<BlockType, List<PlacedBlock>> blocksByType) {
         blocksByType.forEach((type, typeBlocks) -> {
             BatchedMesh mesh = blockMeshes.computeIfAbsent(type, k -> new BatchedMesh());
             mesh.clear();
 
             int vertexOffset = 0;
-            for (AbstractBlock abstractBlock : typeBlocks) {
+            for (PlacedBlock block : typeBlocks) {
+                float[] vertices = block.getVertices();
                 mesh.addBlockMesh(
-                    abstractBlock.getVertices(),
-                    abstractBlock.getIndices(),
+                    vertices,
+                    block.getIndices(),
                     vertexOffset,
-                    abstractBlock.getLightLevel()
+                    block.getLightLevel()
                 );
-                vertexOffset += abstractBlock.getVertices().length / 5;
+                vertexOffset += vertices.length / 5;
             }
 
             mesh.updateGLBuffers();
@@ -279,18 +276,19 @@ public class MasterRenderer implements WorldRenderer {
     /**
      * Renders block highlights
      */
-    private void renderHighlights(List<AbstractBlock> abstractBlocks, Matrix4f viewMatrix) {
+    private void renderHighlights(List<PlacedBlock> blocks, World world, Matrix4f viewMatrix) {
         highlightMesh.clear();
-        abstractBlocks.stream()
-            .filter(AbstractBlock::isHighlighted)
-            .forEach(block -> highlightMesh.addBlockMesh(
+        List<PlacedBlock> highlighted = blocks.stream()
+            .filter(world::isHighlighted)
+            .toList();
+        highlighted.forEach(block -> highlightMesh.addBlockMesh(
                 block.getVertices(),
                 block.getIndices(),
                 0,
                 block.getLightLevel()
             ));
 
-        if (abstractBlocks.stream().anyMatch(AbstractBlock::isHighlighted)) {
+        if (!highlighted.isEmpty()) {
             setupHighlightRendering(viewMatrix);
             highlightMesh.updateGLBuffers();
             highlightMesh.render();
@@ -1,6 +1,6 @@
 package view.renderer;
 
-import model.block.AbstractBlock;
+import model.block.PlacedBlock;
 import model.player.Camera;
 import model.world.World;
 
@@ -15,9 +15,9 @@ public interface WorldRenderer {
     /**
      * Renders visible world blocks from camera view.
      *
-     * @param abstractBlocks Blocks to render
+     * @param blocks Blocks to render
      * @param camera View camera
      * @param world Game world reference
      */
-    void render(List<AbstractBlock> abstractBlocks, Camera camera, World world);
+    void render(List<PlacedBlock> blocks, Camera camera, World world);
 }
\ No newline at end of file